@@ -0,0 +1,73 @@
+package seedu.address.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Times a task over a number of runs after warming it up, and reports the median.
+ * Also reports the most heap any run took on top of what was in use before it, as the sum of the peaks of
+ * the heap memory pools, which may overestimate it a little as the pools need not all peak at once.
+ */
+public class Benchmark {
+
+    /**
+     * A task to be timed.
+     */
+    @FunctionalInterface
+    public interface Task {
+        void run() throws Exception;
+    }
+
+    private static final int WARM_UP_RUNS = 3;
+    private static final int MEASURED_RUNS = 7;
+
+    private final String name;
+    private final long bytesPerRun;
+
+    /**
+     * Creates a benchmark called {@code name} whose task handles {@code bytesPerRun} bytes each run.
+     */
+    public Benchmark(String name, long bytesPerRun) {
+        this.name = name;
+        this.bytesPerRun = bytesPerRun;
+    }
+
+    /**
+     * Runs {@code task} and prints its median time and throughput.
+     */
+    public void run(Task task) throws Exception {
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            task.run();
+        }
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .collect(Collectors.toList());
+        long[] nanos = new long[MEASURED_RUNS];
+        long peakHeapBytes = 0;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            System.gc();
+            long heapBytesBefore = heapPools.stream().mapToLong(pool -> pool.getUsage().getUsed()).sum();
+            heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+            long start = System.nanoTime();
+            task.run();
+            nanos[i] = System.nanoTime() - start;
+
+            long heapBytes = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+            peakHeapBytes = Math.max(peakHeapBytes, heapBytes - heapBytesBefore);
+        }
+        Arrays.sort(nanos);
+        long median = nanos[MEASURED_RUNS / 2];
+        double millis = median / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        double megabytesPerSecond = bytesPerRun / (1024.0 * 1024.0) / (median / (double) TimeUnit.SECONDS.toNanos(1));
+        double peakHeapMegabytes = peakHeapBytes / (1024.0 * 1024.0);
+        System.out.printf("%-48s %10.2f ms %10.1f MB/s %10.1f MB peak heap%n", name, millis, megabytesPerSecond,
+                peakHeapMegabytes);
+    }
+
+}
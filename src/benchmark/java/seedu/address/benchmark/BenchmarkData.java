@@ -0,0 +1,39 @@
+package seedu.address.benchmark;
+
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Company;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates contact books for the benchmarks.
+ */
+public class BenchmarkData {
+
+    /** Contact book sizes the benchmarks are run at. */
+    public static final int[] SIZES = {1_000, 10_000, 100_000};
+
+    private static final int COMPANY_COUNT = 300;
+    private static final int TAG_COUNT = 40;
+
+    /**
+     * Returns a contact book of {@code size} distinct persons, spread over a few hundred companies and tags.
+     */
+    public static AddressBook getAddressBook(int size) {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < size; i++) {
+            addressBook.addPerson(new Person(new Name("Person " + i),
+                    new Phone(String.valueOf(90000000 + i)),
+                    new Email("person" + i + "@example.com"),
+                    new Company("Company " + (i % COMPANY_COUNT)),
+                    Set.of(new Tag("tag" + (i % TAG_COUNT)))));
+        }
+        return addressBook;
+    }
+
+}
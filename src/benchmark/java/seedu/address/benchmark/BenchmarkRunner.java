@@ -0,0 +1,24 @@
+package seedu.address.benchmark;
+
+import seedu.address.storage.SnapshotReadBenchmark;
+
+/**
+ * Runs the storage and search index benchmarks. Run with {@code gradle benchmark}.
+ */
+public class BenchmarkRunner {
+
+    /**
+     * Runs every benchmark in turn.
+     */
+    public static void main(String[] args) throws Exception {
+        System.out.println("== File writes ==");
+        FileWriteBenchmark.run();
+        System.out.println("== Binary snapshot reads ==");
+        SnapshotReadBenchmark.run();
+        System.out.println("== Compressed data files ==");
+        CompressionBenchmark.run();
+        System.out.println("== Search indexes ==");
+        SearchIndexBenchmark.run();
+    }
+
+}
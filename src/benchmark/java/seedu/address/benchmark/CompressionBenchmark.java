@@ -0,0 +1,59 @@
+package seedu.address.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.Deflater;
+
+import seedu.address.model.AddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Compares saving and loading the contact book as plain JSON with saving and loading it gzip-compressed at a few
+ * levels, and reports the size of each file.
+ */
+public class CompressionBenchmark {
+
+    private static final int[] LEVELS = {Deflater.BEST_SPEED, 6, Deflater.BEST_COMPRESSION};
+
+    /**
+     * Runs the benchmark in a temporary directory.
+     */
+    public static void run() throws Exception {
+        Path directory = Files.createTempDirectory("compression-benchmark");
+        Path plainFile = directory.resolve("addressbook.json");
+        Path compressedFile = JsonAddressBookStorage.getCompressedFilePath(plainFile);
+        try {
+            for (int size : BenchmarkData.SIZES) {
+                AddressBook addressBook = BenchmarkData.getAddressBook(size);
+                JsonAddressBookStorage plain = new JsonAddressBookStorage(plainFile);
+                plain.saveAddressBook(addressBook);
+                long bytes = Files.size(plainFile);
+
+                new Benchmark("save plain, " + size + " persons", bytes)
+                        .run(() -> plain.saveAddressBook(addressBook));
+                new Benchmark("load plain, " + size + " persons", bytes)
+                        .run(plain::readAddressBook);
+                printFileSize("plain", size, bytes, bytes);
+
+                for (int level : LEVELS) {
+                    JsonAddressBookStorage compressed = new JsonAddressBookStorage(compressedFile, level);
+                    new Benchmark("save level " + level + ", " + size + " persons", bytes)
+                            .run(() -> compressed.saveAddressBook(addressBook));
+                    new Benchmark("load level " + level + ", " + size + " persons", bytes)
+                            .run(compressed::readAddressBook);
+                    printFileSize("level " + level, size, Files.size(compressedFile), bytes);
+                }
+            }
+        } finally {
+            try (var files = Files.walk(directory)) {
+                files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    private static void printFileSize(String name, int size, long bytes, long plainBytes) {
+        System.out.printf("%-48s %10d B  %9.1f %%%n", "file size " + name + ", " + size + " persons", bytes,
+                100.0 * bytes / plainBytes);
+    }
+
+}
@@ -0,0 +1,42 @@
+package seedu.address.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Compares writing the contact book in place with replacing it atomically, with and without backups.
+ */
+public class FileWriteBenchmark {
+
+    /**
+     * Runs the benchmark in a temporary directory.
+     */
+    public static void run() throws Exception {
+        Path directory = Files.createTempDirectory("file-write-benchmark");
+        Path file = directory.resolve("addressbook.json");
+        try {
+            for (int size : BenchmarkData.SIZES) {
+                new JsonAddressBookStorage(file).saveAddressBook(BenchmarkData.getAddressBook(size));
+                String json = FileUtil.readFromFile(file);
+                long bytes = json.getBytes(StandardCharsets.UTF_8).length;
+
+                new Benchmark("write in place, " + size + " persons", bytes)
+                        .run(() -> FileUtil.writeToFile(file, json));
+                new Benchmark("write atomically, " + size + " persons", bytes)
+                        .run(() -> FileUtil.writeToFileAtomically(file, json, 0));
+                new Benchmark("write atomically with backups, " + size + " persons", bytes)
+                        .run(() -> FileUtil.writeToFileAtomically(file, json,
+                                JsonAddressBookStorage.BACKUP_GENERATIONS));
+            }
+        } finally {
+            try (var files = Files.walk(directory)) {
+                files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,64 @@
+package seedu.address.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.List;
+import java.util.function.Supplier;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.CompactPersonIndex;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndex;
+
+/**
+ * Compares the heap kept by the name trigram index in its compact postings with that of a {@link PersonIndex} of
+ * hash sets, and times finding the candidates for a name search.
+ */
+public class SearchIndexBenchmark {
+
+    private static final String KEYWORD = "son 12";
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void run() throws Exception {
+        for (int size : BenchmarkData.SIZES) {
+            AddressBook addressBook = BenchmarkData.getAddressBook(size);
+            List<Person> persons = addressBook.getPersonList();
+
+            printRetainedHeap("trigram hash set index", size, () -> {
+                PersonIndex<String> index = new PersonIndex<>(person -> person.getName().getTrigrams());
+                index.addAll(persons);
+                return index;
+            });
+            printRetainedHeap("trigram compact index", size, () -> {
+                CompactPersonIndex<String> index =
+                        new CompactPersonIndex<>(person -> person.getName().getTrigrams());
+                index.addAll(persons);
+                return index;
+            });
+            new Benchmark("find name candidates, " + size + " persons", 0)
+                    .run(() -> addressBook.getNameSubstringCandidates(KEYWORD));
+        }
+    }
+
+    /**
+     * Prints the heap still in use after building the index {@code builder} returns, while it is kept.
+     */
+    private static void printRetainedHeap(String name, int size, Supplier<Object> builder) {
+        long before = getUsedHeapAfterGc();
+        Object index = builder.get();
+        long bytes = getUsedHeapAfterGc() - before;
+        System.out.printf("%-48s %10.1f MB %10.1f B/person%n", name + ", " + size + " persons",
+                bytes / (1024.0 * 1024.0), bytes / (double) size);
+        Reference.reachabilityFence(index);
+    }
+
+    private static long getUsedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+}
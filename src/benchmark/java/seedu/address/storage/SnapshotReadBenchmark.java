@@ -0,0 +1,41 @@
+package seedu.address.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.benchmark.Benchmark;
+import seedu.address.benchmark.BenchmarkData;
+
+/**
+ * Compares loading a binary snapshot through a memory mapping of the file with reading the whole file onto the heap
+ * with {@code Files.readAllBytes}, in time and in peak heap.
+ * Kept in the storage package, as the way a snapshot is read is only chosen within it.
+ */
+public class SnapshotReadBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+
+    /**
+     * Runs the benchmark in a temporary directory.
+     */
+    public static void run() throws Exception {
+        Path directory = Files.createTempDirectory("snapshot-read-benchmark");
+        Path file = directory.resolve("addressbook.bin");
+        try {
+            for (int size : SIZES) {
+                new BinaryAddressBookStorage(file).saveAddressBook(BenchmarkData.getAddressBook(size));
+                long bytes = Files.size(file);
+
+                new Benchmark("load with readAllBytes, " + size + " persons", bytes)
+                        .run(() -> new BinaryAddressBookStorage(file, false).readAddressBook());
+                new Benchmark("load memory-mapped, " + size + " persons", bytes)
+                        .run(() -> new BinaryAddressBookStorage(file, true).readAddressBook());
+            }
+        } finally {
+            try (var files = Files.walk(directory)) {
+                files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+}
@@ -1,17 +1,20 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
@@ -19,10 +22,12 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookLoadListener;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BackgroundAddressBookSaver;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
@@ -43,6 +48,7 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected BackgroundAddressBookSaver saver;
     protected Model model;
     protected Config config;
 
@@ -57,28 +63,59 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        // read once, for the data file in use and for data files converted to
+        int compressionLevel = getCompressionLevel(userPrefs);
+        AddressBookStorage addressBookStorage = StorageManager.createAddressBookStorage(
+                userPrefs.getDataFileFormat(), userPrefs.getAddressBookFilePath(), compressionLevel);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, compressionLevel);
 
-        model = initModelManager(storage, userPrefs);
+        // the contact book is loaded in the background once the window is shown
+        model = new ModelManager(new AddressBook(), userPrefs);
 
-        logic = new LogicManager(model, storage);
+        saver = new BackgroundAddressBookSaver(storage);
+        logic = new LogicManager(model, storage, saver);
 
         ui = new UiManager(logic);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s contact book and {@code userPrefs}. <br>
-     * The data from the sample contact book will be used instead if {@code storage}'s contact book is not found,
-     * or an empty contact book will be used instead if errors occur when reading {@code storage}'s contact book.
+     * Returns the compression level chosen in {@code userPrefs}, or the default level if the one chosen is invalid.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private int getCompressionLevel(UserPrefs userPrefs) {
+        int compressionLevel = userPrefs.getDataFileCompressionLevel();
+        if (!JsonAddressBookStorage.isValidCompressionLevel(compressionLevel)) {
+            logger.warning("Data file compression level " + compressionLevel + " is not from 0 to 9."
+                    + " Using the default level " + UserPrefs.DEFAULT_COMPRESSION_LEVEL + " instead.");
+            return UserPrefs.DEFAULT_COMPRESSION_LEVEL;
+        }
+        return compressionLevel;
+    }
+
+    /**
+     * Returns {@code storage}'s contact book, telling {@code listener} of the persons read as reading progresses. <br>
+     * If {@code storage} keeps the contact book in a data file of another format that is not found, the JSON data
+     * file at {@code jsonFilePath} is read instead, so that switching to another format keeps the contacts. <br>
+     * The sample contact book will be returned instead if {@code storage}'s contact book is not found,
+     * or the newest previous version of the contact book that can be read will be returned instead if errors occur
+     * when reading {@code storage}'s contact book, or an empty contact book if there is none.
+     */
+    private ReadOnlyAddressBook readAddressBook(Storage storage, Path jsonFilePath,
+            AddressBookLoadListener listener) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
         try {
-            addressBookOptional = storage.readAddressBook();
+            addressBookOptional = storage.readAddressBookProgressively(listener);
+            if (!addressBookOptional.isPresent()) {
+                // whatever is used instead is saved once loaded, creating the data file
+                listener.onDataFileNotRead();
+            }
+            if (!addressBookOptional.isPresent() && !storage.getAddressBookFilePath().equals(jsonFilePath)) {
+                logger.info("Data file not found, reading the JSON data file " + jsonFilePath + " instead.");
+                addressBookOptional = new JournaledAddressBookStorage(jsonFilePath)
+                        .readAddressBookProgressively(listener);
+            }
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample FastCard Contact Book.");
@@ -86,11 +123,37 @@ public class MainApp extends Application {
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty Fast Card Contact Book."); // @Codecov [ignore]
-            initialData = new AddressBook();
+                    + " Will be starting with the newest previous version that can be loaded.");
+            listener.onDataFileNotRead();
+            initialData = readPreviousAddressBook(storage).orElseGet(() -> {
+                logger.warning("No previous version of the data file could be loaded."
+                        + " Will be starting with an empty Fast Card Contact Book."); // @Codecov [ignore]
+                return new AddressBook();
+            });
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return initialData;
+    }
+
+    /**
+     * Returns the newest previous version of {@code storage}'s contact book that can be read,
+     * from the generations kept by {@link FileUtil#writeToFileAtomically}.
+     */
+    private Optional<ReadOnlyAddressBook> readPreviousAddressBook(Storage storage) {
+        Path filePath = storage.getAddressBookFilePath();
+        for (int generation = 1; Files.exists(FileUtil.getGenerationPath(filePath, generation)); generation++) {
+            Path generationPath = FileUtil.getGenerationPath(filePath, generation);
+            try {
+                Optional<ReadOnlyAddressBook> addressBook = storage.readAddressBook(generationPath);
+                if (addressBook.isPresent()) {
+                    logger.info("Rolled back to the previous version of the data file at " + generationPath);
+                    return addressBook;
+                }
+            } catch (DataLoadingException e) {
+                logger.warning("Previous version of the data file at " + generationPath + " could not be loaded.");
+            }
+        }
+        return Optional.empty();
     }
 
     private void initLogging(Config config) {
@@ -172,11 +235,23 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting FastCard " + MainApp.VERSION);
         ui.start(primaryStage);
+        Path jsonFilePath = model.getAddressBookFilePath();
+        logic.loadAddressBook(listener -> readAddressBook(storage, jsonFilePath, listener), Platform::runLater);
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping FastCard ] =============================");
+        try {
+            saver.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
+        try {
+            storage.close();
+        } catch (IOException e) {
+            logger.severe("Failed to close the data file " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
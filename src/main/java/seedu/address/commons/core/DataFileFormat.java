@@ -0,0 +1,17 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats the contact book can be saved in.
+ */
+public enum DataFileFormat {
+    /** Human-readable JSON, the format for exchanging contact books with other programs. */
+    JSON,
+    /** Compact binary snapshot, fast to load for very large contact books. */
+    BINARY,
+    /** Gzip-compressed JSON, small to save and load over synced network drives. */
+    COMPRESSED,
+    /** JSON split into shard files, so that a save only rewrites the shards of the persons changed. */
+    SHARDED,
+    /** Embedded database, which saves only the rows of the persons changed, for the largest contact books. */
+    DATABASE
+}
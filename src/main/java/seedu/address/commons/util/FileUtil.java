@@ -1,17 +1,55 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    /**
+     * Writes the content of a file to a stream, so that the content need not be held in memory all at once.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Writes the content of a file to its channel, and may go back to fill in parts written earlier, e.g. a header.
+     */
+    @FunctionalInterface
+    public interface ChannelWriter {
+        void writeTo(FileChannel channel) throws IOException;
+    }
+
     private static final String CHARSET = "UTF-8";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final int GZIP_MAGIC_SIZE = 2;
+    private static final int GZIP_TRAILER_SIZE = 8;
+
+    private static final Logger logger = LogsCenter.getLogger(FileUtil.class);
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +118,196 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes given string to a file, replacing the file atomically: a reader or a crash sees either the whole
+     * old content or the whole new content, never part of either.
+     * The content is written to a temporary file in the same directory and forced to the disk, then renamed
+     * over the file, and the rename is forced to the disk too.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     *
+     * @param generations the number of previous versions of the file to keep, from {@link #getGenerationPath}
+     *     1 (the newest) to {@code generations} (the oldest).
+     */
+    public static void writeToFileAtomically(Path file, String content, int generations) throws IOException {
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFileAtomically(file, out -> out.write(bytes), generations);
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, String, int)}, but streams the content from
+     * {@code content} through a buffer straight into the file.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter content, int generations)
+            throws IOException {
+        writeChannelAtomically(file, channel -> {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE);
+            content.writeTo(out);
+            out.flush();
+        }, generations);
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, String, int)}, but lets {@code content} write straight
+     * to the channel of the file.
+     */
+    public static void writeChannelAtomically(Path file, ChannelWriter content, int generations)
+            throws IOException {
+        Path target = file.toAbsolutePath();
+        Path directory = target.getParent();
+        Files.createDirectories(directory);
+
+        Path temporaryFile = Files.createTempFile(directory, "." + target.getFileName(), TEMPORARY_FILE_SUFFIX);
+        try {
+            writeAndForce(temporaryFile, content);
+            if (generations > 0 && Files.exists(target)) {
+                keepGeneration(target, generations);
+            }
+            moveAtomically(temporaryFile, target);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporaryFile);
+            throw e;
+        }
+        forceDirectory(directory);
+    }
+
+    /**
+     * Returns a writer that compresses the content written by {@code content} in the gzip format at the given
+     * Deflater {@code level}, streaming it through without holding the whole content in memory.
+     */
+    public static ContentWriter gzipped(ContentWriter content, int level) {
+        return out -> {
+            LeveledGzipOutputStream gzip = new LeveledGzipOutputStream(out, level);
+            content.writeTo(gzip);
+            // finishes the compressed stream without closing out, which is left to the caller
+            gzip.finish();
+        };
+    }
+
+    /**
+     * Returns a stream of the content of {@code in}, decompressing it if it is in the gzip format.
+     * The format is detected from the first bytes of {@code in}, so the file extension does not matter.
+     * Closing the returned stream closes {@code in}.
+     */
+    public static InputStream decompressIfGzipped(InputStream in) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(in, WRITE_BUFFER_SIZE);
+        buffered.mark(GZIP_MAGIC_SIZE);
+        int first = buffered.read();
+        int second = buffered.read();
+        buffered.reset();
+        boolean isGzipped = (first | (second << 8)) == GZIPInputStream.GZIP_MAGIC;
+        return isGzipped ? new GZIPInputStream(buffered, WRITE_BUFFER_SIZE) : buffered;
+    }
+
+    /**
+     * Returns the size of the content of {@code file} once decompressed, if it is in the gzip format,
+     * or the size of {@code file} otherwise.
+     * The size of gzip content is taken from its trailer, which holds it modulo 2^32, so it is only an estimate
+     * for content over 4 GiB.
+     */
+    public static long getDecompressedSize(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer magic = ByteBuffer.allocate(GZIP_MAGIC_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            if (size < GZIP_MAGIC_SIZE + GZIP_TRAILER_SIZE || channel.read(magic, 0) < GZIP_MAGIC_SIZE
+                    || (magic.getShort(0) & 0xFFFF) != GZIPInputStream.GZIP_MAGIC) {
+                return size;
+            }
+            ByteBuffer trailer = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            channel.read(trailer, size - Integer.BYTES);
+            return Integer.toUnsignedLong(trailer.getInt(0));
+        }
+    }
+
+    /**
+     * Returns the path next to {@code file} with the same name but {@code extension} in place of its own extension,
+     * or added to the name if it has none, e.g. {@code data/addressbook.bin} for {@code data/addressbook.json}.
+     */
+    public static Path replaceExtension(Path file, String extension) {
+        String fileName = file.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return file.resolveSibling(baseName + extension);
+    }
+
+    /**
+     * Returns the path of the given previous version of {@code file} kept by {@link #writeToFileAtomically},
+     * where generation 1 is the newest.
+     */
+    public static Path getGenerationPath(Path file, int generation) {
+        return file.resolveSibling(file.getFileName() + "." + generation);
+    }
+
+    /**
+     * Shifts the kept generations of {@code file} back by one, dropping the oldest, and keeps the current
+     * content of {@code file} as generation 1.
+     */
+    private static void keepGeneration(Path file, int generations) throws IOException {
+        Files.deleteIfExists(getGenerationPath(file, generations));
+        for (int generation = generations - 1; generation >= 1; generation--) {
+            Path older = getGenerationPath(file, generation);
+            if (Files.exists(older)) {
+                Files.move(older, getGenerationPath(file, generation + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        // a hard link keeps the current content without copying it, and without the file ever going missing
+        Path newest = getGenerationPath(file, 1);
+        try {
+            Files.createLink(newest, file);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(file, newest, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void writeAndForce(Path file, ChannelWriter content) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            content.writeTo(channel);
+            channel.force(true);
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            logger.warning("Atomic rename is not supported for " + target + ", replacing it non-atomically");
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory}, such as a rename, to the disk.
+     * Not all platforms can open a directory for this, in which case it is left to the file system.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            logger.fine("Could not force directory " + directory + " to the disk: " + e);
+        }
+    }
+
+    /**
+     * A gzip stream that compresses at a chosen level, and releases its compressor once finished.
+     */
+    private static class LeveledGzipOutputStream extends GZIPOutputStream {
+        private boolean isFinished;
+
+        LeveledGzipOutputStream(OutputStream out, int level) throws IOException {
+            super(out, WRITE_BUFFER_SIZE);
+            def.setLevel(level);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            if (isFinished) {
+                return;
+            }
+            super.finish();
+            def.end();
+            isFinished = true;
+        }
+    }
+
 }
@@ -3,6 +3,8 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +13,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -22,12 +27,29 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
  */
 public class JsonUtil {
 
+    /**
+     * Writes a JSON document piece by piece to a {@code JsonGenerator}.
+     */
+    @FunctionalInterface
+    public interface StreamWriter {
+        void writeTo(JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * Reads a JSON document piece by piece from a {@code JsonParser}, converting it as it goes.
+     */
+    @FunctionalInterface
+    public interface StreamReader<T> {
+        T readFrom(JsonParser parser) throws IOException, IllegalValueException;
+    }
+
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
 
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
@@ -91,6 +113,65 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Saves the Json object to the specified file, replacing it atomically and keeping {@code generations}
+     * previous versions of it.
+     *
+     * @see FileUtil#writeToFileAtomically(Path, String, int)
+     */
+    public static <T> void saveJsonFileAtomically(T jsonFile, Path filePath, int generations) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+
+        FileUtil.writeToFileAtomically(filePath, toJsonString(jsonFile), generations);
+    }
+
+    /**
+     * Saves the JSON document written by {@code writer} to the specified file, replacing it atomically and
+     * keeping {@code generations} previous versions of it.
+     * The document is streamed into the file as it is written, instead of being built up in memory first.
+     *
+     * @see FileUtil#writeToFileAtomically(Path, FileUtil.ContentWriter, int)
+     */
+    public static void saveJsonStreamAtomically(StreamWriter writer, Path filePath, int generations)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(writer);
+
+        FileUtil.writeToFileAtomically(filePath, out -> writeJsonStream(writer, out), generations);
+    }
+
+    /**
+     * Writes the JSON document written by {@code writer} to {@code out}, pretty-printed in the same way as
+     * {@link #toJsonString}. Objects written with {@link JsonGenerator#writeObject} are converted the same way
+     * as by {@link #toJsonString}. {@code out} is flushed, but not closed.
+     */
+    public static void writeJsonStream(StreamWriter writer, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)
+                .useDefaultPrettyPrinter()
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                // the mapper flushes after every object written; leave buffering the stream to the caller
+                .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        try {
+            writer.writeTo(generator);
+        } finally {
+            generator.close();
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads the JSON document in {@code in} with {@code reader}, without reading the whole document into memory
+     * first. Objects read with {@link JsonParser#readValueAs} are converted the same way as by
+     * {@link #fromJsonString}. {@code in} is not closed.
+     */
+    public static <T> T readJsonStream(StreamReader<T> reader, InputStream in)
+            throws IOException, IllegalValueException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)
+                .disable(JsonParser.Feature.AUTO_CLOSE_SOURCE)) {
+            return reader.readFrom(parser);
+        }
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -111,6 +192,14 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a compact JSON data string on a single line,
+     * suitable for appending to a file of one JSON object per line.
+     */
+    public static <T> String toJsonLine(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -86,4 +86,23 @@ public class StringUtil {
         return lowerSentence.contains(lowerWord);
     }
 
+    /**
+     * Returns the case-folded form of {@code s}, such that two strings are equal ignoring case
+     * (as defined by {@link String#equalsIgnoreCase(String)}) if and only if their folded forms are equal.
+     * This makes the folded form suitable as a hash key for case-insensitive lookups.
+     * <br>Examples:<pre>
+     * foldCase("Alice Bob") == "alice bob"
+     * foldCase("ALICE BOB").equals(foldCase("alice bob")) == true
+     * </pre>
+     * @param s cannot be null.
+     */
+    public static String foldCase(String s) {
+        requireNonNull(s);
+        char[] folded = new char[s.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(s.charAt(i)));
+        }
+        return new String(folded);
+    }
+
 }
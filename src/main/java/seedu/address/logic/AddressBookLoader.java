@@ -0,0 +1,163 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+import javafx.beans.property.SimpleObjectProperty;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.storage.AddressBookLoadListener;
+
+/**
+ * Loads the contact book into the model on a background thread, publishing the persons read so far
+ * as loading progresses, so that the first persons can be shown long before a large contact book is loaded.
+ *
+ * The model is only changed through the model executor, e.g. on the JavaFX application thread, and so is whether
+ * loading has finished or failed. Once a contact book read from the data file has been loaded, the loaded handler
+ * is run there too, e.g. to note that the contact book need not be saved until it is changed.
+ * Persons are published each time the number read has doubled, so that publishing them all costs
+ * about as much as publishing the whole contact book twice.
+ */
+public class AddressBookLoader implements AddressBookLoadListener {
+
+    /**
+     * Reads the contact book, telling the listener of the persons read as reading progresses.
+     */
+    @FunctionalInterface
+    public interface Source {
+        ReadOnlyAddressBook read(AddressBookLoadListener listener);
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookLoader.class);
+
+    private final Model model;
+    private final Executor modelExecutor;
+    private final SimpleObjectProperty<Double> progress;
+    private final Runnable loadedFromDataFileHandler;
+
+    private volatile boolean isLoaded;
+    private volatile boolean hasFailed;
+    private volatile boolean isDataFileRead = true;
+
+    /** The number of persons last published. Only used by the loading thread. */
+    private int publishedCount;
+
+    /**
+     * Creates a loader that loads into {@code model} and sets {@code progress} to the fraction loaded so far,
+     * from 0 to 1, changing both only through {@code modelExecutor}.
+     */
+    public AddressBookLoader(Model model, SimpleObjectProperty<Double> progress, Executor modelExecutor) {
+        this(model, progress, modelExecutor, () -> {});
+    }
+
+    /**
+     * Creates a loader like {@link #AddressBookLoader(Model, SimpleObjectProperty, Executor)} that also runs
+     * {@code loadedFromDataFileHandler} through {@code modelExecutor} once the contact book has been loaded,
+     * if it was read from the data file rather than e.g. made up of sample data as the data file is missing.
+     */
+    public AddressBookLoader(Model model, SimpleObjectProperty<Double> progress, Executor modelExecutor,
+            Runnable loadedFromDataFileHandler) {
+        requireNonNull(model);
+        requireNonNull(progress);
+        requireNonNull(modelExecutor);
+        requireNonNull(loadedFromDataFileHandler);
+        this.model = model;
+        this.progress = progress;
+        this.modelExecutor = modelExecutor;
+        this.loadedFromDataFileHandler = loadedFromDataFileHandler;
+    }
+
+    /**
+     * Starts loading the contact book from {@code source} on a new background thread.
+     */
+    public void start(Source source) {
+        requireNonNull(source);
+        Thread thread = new Thread(() -> load(source), "address-book-loader");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Loads the contact book from {@code source} on the calling thread.
+     * If reading it fails unexpectedly, the contact book is left partly loaded, is never marked as loaded,
+     * and is marked as failed instead.
+     */
+    public void load(Source source) {
+        long start = System.nanoTime();
+        ReadOnlyAddressBook addressBook;
+        try {
+            addressBook = source.read(this);
+        } catch (RuntimeException e) {
+            // commands stay rejected, as saving what was read so far could lose the rest of the contact book
+            logger.severe("Could not load the contact book: " + e);
+            modelExecutor.execute(() -> hasFailed = true);
+            return;
+        }
+        modelExecutor.execute(() -> {
+            // loading is not a change the user can undo
+            model.resetAddressBook(addressBook);
+            isLoaded = true;
+            progress.set(1.0);
+            if (isDataFileRead) {
+                loadedFromDataFileHandler.run();
+            }
+        });
+        logger.info(String.format("Loaded %d persons in %d ms", addressBook.getPersonList().size(),
+                (System.nanoTime() - start) / 1_000_000));
+    }
+
+    /**
+     * Returns true once the whole contact book has been loaded into the model.
+     */
+    public boolean isLoaded() {
+        return isLoaded;
+    }
+
+    /**
+     * Returns true if reading the contact book failed, leaving only the persons read before that in the model.
+     */
+    public boolean hasFailed() {
+        return hasFailed;
+    }
+
+    @Override
+    public void onPersonsRead(List<Person> personsRead, double fractionRead) {
+        modelExecutor.execute(() -> {
+            if (!isLoaded) {
+                progress.set(fractionRead);
+            }
+        });
+        if (personsRead.size() <= publishedCount || personsRead.size() < 2 * publishedCount) {
+            return;
+        }
+
+        List<Person> persons = List.copyOf(personsRead);
+        publishedCount = persons.size();
+        modelExecutor.execute(() -> publish(persons));
+    }
+
+    @Override
+    public void onDataFileNotRead() {
+        isDataFileRead = false;
+    }
+
+    private void publish(List<Person> persons) {
+        if (isLoaded) {
+            return;
+        }
+        try {
+            model.resetAddressBook(new AddressBook(persons));
+        } catch (DuplicatePersonException e) {
+            // the whole contact book is checked once it is loaded
+            logger.fine("Not publishing persons read so far, as they contain duplicates");
+        }
+    }
+
+}
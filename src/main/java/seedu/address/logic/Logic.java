@@ -1,8 +1,11 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.exceptions.EndOfCommandHistoryException;
@@ -25,6 +28,37 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns how often executing a command saved the contact book and how often the save was skipped.
+     */
+    SaveStatistics getSaveStatistics();
+
+    /**
+     * Sets the handler given the error message of a contact book save that failed in the background,
+     * after the command that made the change was executed. The handler may be called on any thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Sets the handler given the result message of a conversion of the contact book to another format that was
+     * run in the background, after the command that asked for it was executed. The handler may be called on any
+     * thread.
+     */
+    void setConversionResultHandler(Consumer<String> conversionResultHandler);
+
+    /**
+     * Starts loading the contact book from {@code source} into the model, in the background.
+     * Until it has loaded, commands that need the whole contact book are rejected.
+     *
+     * @param modelExecutor runs the changes to the model, e.g. on the JavaFX application thread.
+     */
+    void loadAddressBook(AddressBookLoader.Source source, Executor modelExecutor);
+
+    /**
+     * Returns the fraction of the contact book loaded so far, from 0 to 1.
+     */
+    ObservableValue<Double> getLoadProgress();
+
     /**
      * Returns the AddressBook.
      *
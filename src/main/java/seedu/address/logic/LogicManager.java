@@ -1,23 +1,32 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.EndOfCommandHistoryException;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ConvertCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.storage.BackgroundAddressBookSaver;
 import seedu.address.storage.Storage;
 
 /**
@@ -34,33 +43,193 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final SaveStatistics saveStatistics = new SaveStatistics();
+
+    /** Saves the contact book in the background, or null if it is saved while executing each command. */
+    private final BackgroundAddressBookSaver saver;
+    private volatile Consumer<String> saveFailureHandler = message -> {};
+    private volatile Consumer<String> conversionResultHandler = message -> {};
+
+    /**
+     * The contact book version last saved or loaded from the data file, or -1 if the contact book must be saved
+     * after the next command, e.g. as it has not been saved yet or the save failed.
+     */
+    private volatile long savedVersion = -1;
+
+    private final SimpleObjectProperty<Double> loadProgress = new SimpleObjectProperty<>(1.0);
+
+    /** Loads the contact book in the background, or null if it was loaded before this was created. */
+    private AddressBookLoader loader;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage},
+     * which saves the contact book while executing each command.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
+        this.saver = null;
         addressBookParser = new AddressBookParser();
     }
 
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage},
+     * which saves snapshots of the contact book in the background with {@code saver}.
+     * Failed saves are passed to the save failure handler, and retried after the next command.
+     */
+    public LogicManager(Model model, Storage storage, BackgroundAddressBookSaver saver) {
+        requireNonNull(saver);
+        this.model = model;
+        this.storage = storage;
+        this.saver = saver;
+        addressBookParser = new AddressBookParser();
+        saver.addFailureListener(ioe -> {
+            savedVersion = -1;
+            saveFailureHandler.accept(getSaveErrorMessage(ioe));
+        });
+    }
+
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
+        if (!isAddressBookLoaded() && command.requiresWholeAddressBook()) {
+            throw new CommandException(loader.hasFailed()
+                    ? Messages.MESSAGE_ADDRESS_BOOK_LOAD_FAILED
+                    : Messages.MESSAGE_ADDRESS_BOOK_LOADING);
+        }
         commandResult = command.execute(model);
+        if (isAddressBookLoaded()) {
+            saveAddressBookIfChanged();
+        } else {
+            // saving the persons loaded so far would lose the rest of the contact book
+            logger.fine("Contact book not loaded, skipped saving");
+        }
+
+        Optional<DataFileFormat> formatToConvertTo = commandResult.getFormatToConvertTo();
+        if (formatToConvertTo.isPresent() && saver != null) {
+            // the feedback says the conversion has started, and the handler is told when it has finished
+            convertAddressBookInBackground(formatToConvertTo.get());
+        } else if (formatToConvertTo.isPresent()) {
+            commandResult = new CommandResult(convertAddressBook(model.getAddressBookSnapshot(),
+                    formatToConvertTo.get(), model.getAddressBookFilePath()));
+        }
+        return commandResult;
+    }
 
+    /**
+     * Writes the contact book to a data file in {@code format}, next to the data file in use, on the saver's
+     * thread after the saves submitted so far, and passes the result message to the conversion result handler.
+     */
+    private void convertAddressBookInBackground(DataFileFormat format) {
+        ReadOnlyAddressBook snapshot = model.getAddressBookSnapshot();
+        Path jsonFilePath = model.getAddressBookFilePath();
+        saver.submitTask(() -> convertAddressBook(snapshot, format, jsonFilePath))
+                .whenComplete((message, error) -> conversionResultHandler.accept(error == null
+                        ? message
+                        : String.format(ConvertCommand.MESSAGE_FAILURE, error.getMessage())));
+    }
+
+    /**
+     * Writes {@code snapshot} to a data file in {@code format}, next to the JSON data file at {@code jsonFilePath},
+     * and returns the result message.
+     */
+    private String convertAddressBook(ReadOnlyAddressBook snapshot, DataFileFormat format, Path jsonFilePath) {
+        String formatName = format.name().toLowerCase();
+        Path filePath;
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            filePath = storage.convertAddressBook(snapshot, format, jsonFilePath);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            logger.warning("Could not convert the contact book to " + formatName + ": " + ioe);
+            return String.format(ConvertCommand.MESSAGE_FAILURE, ioe.getMessage());
         }
 
-        return commandResult;
+        logger.info("Converted the contact book to " + formatName + " at " + filePath);
+        return String.format(ConvertCommand.MESSAGE_SUCCESS, formatName, filePath);
+    }
+
+    /**
+     * Returns true if the whole contact book is in the model, so that it can be saved.
+     * It is never saved after loading it failed.
+     */
+    private boolean isAddressBookLoaded() {
+        return loader == null || loader.isLoaded();
+    }
+
+    /**
+     * Saves the contact book, unless it is unchanged since it was last saved.
+     */
+    private void saveAddressBookIfChanged() throws CommandException {
+        long version = model.getAddressBookVersion();
+        if (version == savedVersion) {
+            saveStatistics.recordSkip();
+            logger.fine("Contact book unchanged, skipped saving: " + saveStatistics);
+            return;
+        }
+
+        long start = System.nanoTime();
+        savedVersion = version;
+        if (saver != null) {
+            saver.submit(model.getAddressBookSnapshot());
+        } else {
+            try {
+                storage.saveAddressBook(model.getAddressBook());
+            } catch (IOException ioe) {
+                savedVersion = -1;
+                throw new CommandException(getSaveErrorMessage(ioe), ioe);
+            }
+        }
+        saveStatistics.recordSave(System.nanoTime() - start);
+        logger.fine("Saved contact book: " + saveStatistics);
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
+    @Override
+    public SaveStatistics getSaveStatistics() {
+        return saveStatistics;
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    @Override
+    public void setConversionResultHandler(Consumer<String> conversionResultHandler) {
+        requireNonNull(conversionResultHandler);
+        this.conversionResultHandler = conversionResultHandler;
+    }
+
+    @Override
+    public void loadAddressBook(AddressBookLoader.Source source, Executor modelExecutor) {
+        requireNonNull(source);
+        requireNonNull(modelExecutor);
+        loadProgress.set(0.0);
+        loader = new AddressBookLoader(model, loadProgress, modelExecutor, this::markAddressBookSaved);
+        loader.start(source);
+    }
+
+    /**
+     * Marks the contact book just loaded from the data file as saved, so that commands that leave it unchanged do
+     * not save it, and the storage can save the first change on top of the data file instead of rewriting it.
+     */
+    private void markAddressBookSaved() {
+        savedVersion = model.getAddressBookVersion();
+        storage.markSaved(model.getAddressBookSnapshot());
+    }
+
+    @Override
+    public ObservableValue<Double> getLoadProgress() {
+        return loadProgress;
     }
 
     @Override
@@ -21,6 +21,10 @@ public class Messages {
             + "\nWhen there are multiple contacts of that name shown, you should <delete INDEX>. "
             + "\nPlease make sure the index is a valid integer.";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d contact(s) listed!";
+    public static final String MESSAGE_ADDRESS_BOOK_LOADING =
+            "The contact book is still loading. Please try again once it has loaded.";
+    public static final String MESSAGE_ADDRESS_BOOK_LOAD_FAILED =
+            "The contact book could not be loaded, so it will not be changed or saved. Please restart the app.";
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
 
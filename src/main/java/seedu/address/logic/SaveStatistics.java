@@ -0,0 +1,57 @@
+package seedu.address.logic;
+
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Counts how often executing a command saved the contact book, and how often the save was skipped
+ * because the contact book was unchanged.
+ */
+public class SaveStatistics {
+
+    private long saveCount;
+    private long skipCount;
+    private long saveNanos;
+
+    /**
+     * Records a save that took {@code nanos} nanoseconds.
+     */
+    public synchronized void recordSave(long nanos) {
+        saveCount++;
+        saveNanos += nanos;
+    }
+
+    /**
+     * Records a save that was skipped.
+     */
+    public synchronized void recordSkip() {
+        skipCount++;
+    }
+
+    public synchronized long getSaveCount() {
+        return saveCount;
+    }
+
+    public synchronized long getSkipCount() {
+        return skipCount;
+    }
+
+    /**
+     * Returns the total time commands spent saving, in milliseconds.
+     * Saves done in the background only count the time taken to hand the contact book over.
+     */
+    public synchronized long getSaveMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(saveNanos);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return new ToStringBuilder(this)
+                .add("saved", saveCount)
+                .add("skipped", skipCount)
+                .add("saveMillis", getSaveMillis())
+                .toString();
+    }
+
+}
@@ -17,4 +17,11 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if the command needs the whole contact book, and so cannot be executed while it is loading.
+     */
+    public boolean requiresWholeAddressBook() {
+        return true;
+    }
+
 }
@@ -3,7 +3,9 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -28,15 +30,24 @@ public class CommandResult {
     */
     private final int focusIndex;
 
+    /** The format the contact book should be written to a data file in, or null if it should not. */
+    private final DataFileFormat formatToConvertTo;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
     public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, boolean toggleDetail, int focusIndex) {
+        this(feedbackToUser, showHelp, exit, toggleDetail, focusIndex, null);
+    }
+
+    private CommandResult(String feedbackToUser, boolean showHelp, boolean exit, boolean toggleDetail,
+            int focusIndex, DataFileFormat formatToConvertTo) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.toggleDetail = toggleDetail;
         this.exit = exit;
         this.focusIndex = focusIndex;
+        this.formatToConvertTo = formatToConvertTo;
     }
 
     /**
@@ -47,6 +58,15 @@ public class CommandResult {
         this(feedbackToUser, false, false, false, -1);
     }
 
+    /**
+     * Constructs a {@code CommandResult} asking for the contact book to be written to a data file in
+     * {@code formatToConvertTo}, which is done by the logic component with the storage.
+     */
+    public static CommandResult convertTo(String feedbackToUser, DataFileFormat formatToConvertTo) {
+        requireNonNull(formatToConvertTo);
+        return new CommandResult(feedbackToUser, false, false, false, -1, formatToConvertTo);
+    }
+
     public String getFeedbackToUser() {
         return feedbackToUser;
     }
@@ -67,6 +87,10 @@ public class CommandResult {
         return focusIndex != -1;
     }
 
+    public Optional<DataFileFormat> getFormatToConvertTo() {
+        return Optional.ofNullable(formatToConvertTo);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -81,12 +105,13 @@ public class CommandResult {
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && formatToConvertTo == otherCommandResult.formatToConvertTo;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, showHelp, exit, formatToConvertTo);
     }
 
     @Override
@@ -0,0 +1,63 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Writes the contact book to a data file in another format, next to the data file in use.
+ * The format in use is chosen in the preferences file, and only changes when the app is restarted.
+ * The data file is written by the logic component with the storage, as asked for in the command's result.
+ */
+public class ConvertCommand extends Command {
+
+    public static final String COMMAND_WORD = "convert";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Writes all contacts to a data file in another format. "
+            + "Parameters: FORMAT (binary, compressed, sharded, database or json)\n"
+            + "Example: " + COMMAND_WORD + " binary";
+
+    public static final String MESSAGE_CONVERTING = "Writing contacts in the %s format";
+    public static final String MESSAGE_SUCCESS = "Contacts written in the %s format to %s";
+    public static final String MESSAGE_SAME_FORMAT = "Contacts are already saved in the %s format";
+    public static final String MESSAGE_FAILURE = "Failed to convert contacts: %s";
+
+    private final DataFileFormat targetFormat;
+
+    /**
+     * Creates a ConvertCommand that writes the contact book in {@code targetFormat}.
+     */
+    public ConvertCommand(DataFileFormat targetFormat) {
+        requireNonNull(targetFormat);
+        this.targetFormat = targetFormat;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        String formatName = targetFormat.name().toLowerCase();
+        if (model.getUserPrefs().getDataFileFormat() == targetFormat) {
+            throw new CommandException(String.format(MESSAGE_SAME_FORMAT, formatName));
+        }
+
+        return CommandResult.convertTo(String.format(MESSAGE_CONVERTING, formatName), targetFormat);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof ConvertCommand
+                && targetFormat.equals(((ConvertCommand) other).targetFormat));
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetFormat", targetFormat)
+                .toString();
+    }
+}
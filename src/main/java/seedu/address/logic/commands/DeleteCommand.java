@@ -111,7 +111,7 @@ public class DeleteCommand extends Command {
 
     private CommandResult executeDeleteByName(Model model) throws CommandException {
         List<Person> matchingPersons = model.getAddressBook().getPersonList().stream()
-                .filter(person -> person.getName().fullName.equalsIgnoreCase(targetName.fullName))
+                .filter(person -> person.getName().getFoldedName().equals(targetName.getFoldedName()))
                 .collect(Collectors.toList());
 
         if (matchingPersons.isEmpty()) {
@@ -120,7 +120,7 @@ public class DeleteCommand extends Command {
 
         if (matchingPersons.size() > 1) {
             model.updateFilteredPersonList(person ->
-                    person.getName().fullName.equalsIgnoreCase(targetName.fullName));
+                    person.getName().getFoldedName().equals(targetName.getFoldedName()));
             String feedback = MESSAGE_MULTIPLE_PERSONS_WITH_NAME.formatted(targetName)
                     + System.lineSeparator()
                     + Messages.MESSAGE_PERSONS_LISTED_OVERVIEW.formatted(matchingPersons.size());
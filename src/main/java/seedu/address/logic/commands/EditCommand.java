@@ -16,9 +16,11 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.CollectionUtil;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -30,6 +32,7 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.ValuePools;
 
 /**
  * Edits the details of an existing person in the contact book.
@@ -87,7 +90,6 @@ public class EditCommand extends Command {
             + "in the following list of matched contacts.";
     public static final String MESSAGE_PERSON_NAME_NOT_FOUND =
             "The person name provided does not match any displayed contact.";
-    private static final String PLACEHOLDER_EMAIL = "unknown@example.com";
 
     private final Index index;
     private final String nameReference;
@@ -130,11 +132,12 @@ public class EditCommand extends Command {
             }
             personToEdit = lastShownList.get(index.getZeroBased());
         } else {
-            String normalizedQuery = normalizeName(nameReference);
+            // Names are already normalized, so only the query needs collapsing before comparing folded forms
+            String foldedQuery = StringUtil.foldCase(normalizeName(nameReference));
 
             // Find exact name matches (case-insensitive, multiple spaces collapsed)
             java.util.List<Person> matchedPersons = lastShownList.stream()
-                    .filter(p -> normalizeName(p.getName().toString()).equalsIgnoreCase(normalizedQuery))
+                    .filter(p -> p.getName().getFoldedName().equals(foldedQuery))
                     .collect(java.util.stream.Collectors.toList());
 
             if (matchedPersons.isEmpty()) {
@@ -142,8 +145,7 @@ public class EditCommand extends Command {
             }
 
             if (matchedPersons.size() > 1) {
-                model.updateFilteredPersonList(p -> normalizeName(p.getName().toString())
-                        .equalsIgnoreCase(normalizedQuery));
+                model.updateFilteredPersonList(p -> p.getName().getFoldedName().equals(foldedQuery));
                 throw new CommandException(MESSAGE_MULTIPLE_MATCHING_PERSONS);
             }
 
@@ -197,7 +199,8 @@ public class EditCommand extends Command {
         Name updatedName = editPersonDescriptor.getName().orElse(personToEdit.getName());
         Phone updatedPhone = editPersonDescriptor.getPhone().orElse(personToEdit.getPhone());
         Email updatedEmail = editPersonDescriptor.getEmail().orElse(personToEdit.getEmail());
-        Company updatedCompany = editPersonDescriptor.getCompany().orElse(personToEdit.getCompany());
+        Company updatedCompany = ValuePools.company(
+                editPersonDescriptor.getCompany().orElse(personToEdit.getCompany()));
         Detail updatedDetail = editPersonDescriptor.getDetail().orElse(personToEdit.getDetail());
 
         // Handle tags: if tags are set (overwrite), use them; otherwise, apply additions/deletions
@@ -220,7 +223,8 @@ public class EditCommand extends Command {
             }
         }
 
-        return new Person(updatedName, updatedPhone, updatedEmail, updatedCompany, updatedDetail, updatedTags);
+        Set<Tag> sharedTags = updatedTags.stream().map(ValuePools::tag).collect(Collectors.toSet());
+        return new Person(updatedName, updatedPhone, updatedEmail, updatedCompany, updatedDetail, sharedTags);
     }
 
     @Override
@@ -262,23 +266,16 @@ public class EditCommand extends Command {
      * - No other contact has this email
      */
     private boolean isEmailDuplicated(Model model, Person personToEdit, Person editedPerson) {
-        String editedEmailValue = editedPerson.getEmail().value;
-        String originalEmailValue = personToEdit.getEmail().value;
+        Email editedEmail = editedPerson.getEmail();
 
         // If email hasn't changed, it's not a duplicate
-        if (editedEmailValue.equals(originalEmailValue)) {
+        if (editedEmail.equals(personToEdit.getEmail())) {
             return false;
         }
 
-        // If the email is a placeholder, allow it
-        if (PLACEHOLDER_EMAIL.equals(editedEmailValue)) {
-            return false;
-        }
-
-        // Check if any other person has this email
-        return model.getAddressBook().getPersonList().stream()
-                .filter(person -> !person.equals(personToEdit))
-                .anyMatch(person -> person.getEmail().value.equals(editedEmailValue));
+        // Otherwise the original contact cannot hold this email, so any match is another contact.
+        // The placeholder email is never reported as existing, so it is always allowed.
+        return model.hasEmail(editedEmail);
     }
 
     /**
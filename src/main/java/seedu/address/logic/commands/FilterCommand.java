@@ -2,17 +2,24 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagsContainTagPredicate;
 
 /**
  * Filters and lists all persons in the contact book whose contact information contains any of the tags.
  * Keyword matching is case insensitive.
+ * When the tags are selective, the matching persons are collected from the model's tag index, so only the
+ * persons having one of the tags are visited. Otherwise the tags are turned into a mask over the model's tag
+ * dictionary, so that each person is tested with a bitmask AND instead of building a set of most of the persons.
  */
 public class FilterCommand extends Command {
 
@@ -25,6 +32,9 @@ public class FilterCommand extends Command {
             + "Parameters: t/TAG [t/TAG]...\n"
             + "Example: " + COMMAND_WORD + " t/client t/colleague";
 
+    /** The tag index is used when the persons under the tags are fewer than 1 in this many of all persons. */
+    private static final int INDEX_SELECTIVITY = 4;
+
     private static final Logger logger = LogsCenter.getLogger(FilterCommand.class);
 
     private final TagsContainTagPredicate predicate;
@@ -44,7 +54,7 @@ public class FilterCommand extends Command {
         requireNonNull(model);
         logger.info("Executing filter command");
 
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonList(createFilter(model));
         int filteredListSize = model.getFilteredPersonList().size();
 
         logger.info("Filter command executed successfully. Number of persons found: " + filteredListSize);
@@ -53,6 +63,21 @@ public class FilterCommand extends Command {
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, filteredListSize));
     }
 
+    /**
+     * Returns the filter equivalent to {@code predicate}: membership of the persons found in the tag index if
+     * they are few, or else a bitmask test of each person.
+     */
+    private Predicate<Person> createFilter(Model model) {
+        List<Tag> tags = predicate.getTags();
+        int personCount = model.getAddressBook().getPersonList().size();
+        if ((long) model.countPersonsWithAnyTag(tags) * INDEX_SELECTIVITY >= personCount) {
+            return model.getAnyTagFilter(tags);
+        }
+
+        Set<Person> matchingPersons = model.getPersonsWithAnyTag(tags);
+        return matchingPersons::contains;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
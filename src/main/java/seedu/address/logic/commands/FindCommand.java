@@ -2,14 +2,22 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameOrCompanyPredicate;
+import seedu.address.model.person.Person;
 
 /**
  * Finds and lists all persons in address book whose names or companies match the given keywords.
  * Name and company both support partial (substring) search, case-insensitive.
+ * Keywords are resolved through the model's name and company indexes, starting from whichever
+ * keyword has fewer candidates when both a name and a company are given.
  */
 public class FindCommand extends Command {
 
@@ -30,11 +38,35 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonList(createFilter(model));
         return new CommandResult(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW,
                 model.getFilteredPersonList().size()));
     }
 
+    /**
+     * Returns the filter equivalent to {@code predicate} that visits the fewest candidates.
+     * The name and company keywords are each resolved through their index, and only the persons found
+     * from the side with fewer candidates are tested against {@code predicate}.
+     * If neither side narrows the search down, every person is tested.
+     */
+    private Predicate<Person> createFilter(Model model) {
+        Optional<String> nameKeyword = predicate.getNameKeyword();
+        List<String> companyTokens = predicate.getCompanyTokens();
+        int nameCandidateCount = nameKeyword.map(model::countNameSubstringCandidates).orElse(Integer.MAX_VALUE);
+        int companyCandidateCount = predicate.getCompanyKeyword().isPresent()
+                ? model.countPersonsWithAnyCompanyToken(companyTokens)
+                : Integer.MAX_VALUE;
+
+        if (Math.min(nameCandidateCount, companyCandidateCount) >= model.getAddressBook().getPersonList().size()) {
+            return predicate;
+        }
+
+        Set<Person> candidates = nameCandidateCount <= companyCandidateCount
+                ? model.getNameSubstringCandidates(nameKeyword.get())
+                : model.getPersonsWithAnyCompanyToken(companyTokens);
+        return person -> candidates.contains(person) && predicate.test(person);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this
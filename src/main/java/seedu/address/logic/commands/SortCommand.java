@@ -79,16 +79,12 @@ public class SortCommand extends Command {
         switch (field.toLowerCase()) {
         case "name":
             logger.fine("Creating name comparator");
-            comparator = Comparator.comparing(person -> person.getName().toString(), String.CASE_INSENSITIVE_ORDER);
+            // folded names compare the same way as String.CASE_INSENSITIVE_ORDER
+            comparator = Comparator.comparing(person -> person.getName().getFoldedName());
             break;
         case "tag":
             logger.fine("Creating tag comparator");
-            comparator = Comparator.comparing(person ->
-                    person.getTags().stream()
-                          .map(tag -> tag.tagName.toLowerCase())
-                          .sorted()
-                          .findFirst()
-                          .orElse(""));
+            comparator = Comparator.comparing(Person::getTagSortKey);
             break;
         default:
             logger.warning("Invalid field specified: " + field);
@@ -0,0 +1,37 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Undoes the most recent change to the contact book.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_SUCCESS = "Undid the last change to the contact book.";
+    public static final String MESSAGE_FAILURE = "There is no change to undo.";
+    public static final String MESSAGE_DISABLED = "Undo is turned off, as \"undoHistoryMegabytes\" is 0 "
+            + "in preferences.json.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.isUndoEnabled()) {
+            throw new CommandException(MESSAGE_DISABLED);
+        }
+        if (!model.canUndoAddressBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.updateFocusedPerson(-1);
+        model.undoAddressBook();
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -45,7 +45,7 @@ public class AddCommandBasicParser implements Parser<AddCommandBasic> {
         Phone phone = ParserUtil.parsePhone(argMultimap.getValue(PREFIX_PHONE).get());
 
         Email email = ParserUtil.parseEmail(
-                argMultimap.getValue(PREFIX_EMAIL).orElse("unknown@example.com"));
+                argMultimap.getValue(PREFIX_EMAIL).orElse(Email.PLACEHOLDER_EMAIL));
         Company company = ParserUtil.parseCompany(argMultimap.getValue(PREFIX_COMPANY).orElse("N/A"));
         Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
 
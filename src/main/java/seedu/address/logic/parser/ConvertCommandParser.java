@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.logic.commands.ConvertCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ConvertCommand object
+ */
+public class ConvertCommandParser implements Parser<ConvertCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ConvertCommand
+     * and returns a ConvertCommand object for execution.
+     *
+     * @throws ParseException if the user input does not name a data file format
+     */
+    public ConvertCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        switch (args.trim().toLowerCase()) {
+        case "binary":
+            return new ConvertCommand(DataFileFormat.BINARY);
+        case "compressed":
+            return new ConvertCommand(DataFileFormat.COMPRESSED);
+        case "database":
+            return new ConvertCommand(DataFileFormat.DATABASE);
+        case "sharded":
+            return new ConvertCommand(DataFileFormat.SHARDED);
+        case "json":
+            return new ConvertCommand(DataFileFormat.JSON);
+        default:
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ConvertCommand.MESSAGE_USAGE));
+        }
+    }
+}
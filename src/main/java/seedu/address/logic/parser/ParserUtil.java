@@ -15,6 +15,7 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.ValuePools;
 
 /**
  * Contains utility methods used for parsing strings in the various *Parser classes.
@@ -78,7 +79,7 @@ public class ParserUtil {
         if (!Company.isValidCompany(trimmedCompany)) {
             throw new ParseException(Company.MESSAGE_CONSTRAINTS);
         }
-        return new Company(trimmedCompany);
+        return ValuePools.company(trimmedCompany);
     }
 
     /**
@@ -108,7 +109,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return ValuePools.tag(trimmedTag);
     }
 
     /**
@@ -2,22 +2,73 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.CompactPersonIndex;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndex;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagDictionary;
+import seedu.address.model.util.PersistentList;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
  */
-public class AddressBook implements ReadOnlyAddressBook {
+public class AddressBook implements TrackedAddressBook {
+
+    /** The number of most recent changes kept in the change log. */
+    public static final int CHANGE_LOG_CAPACITY = 1024;
 
     private final UniquePersonList persons;
 
+    /**
+     * The most recent changes, oldest first, ending with the change that produced {@code version}.
+     * Kept as a persistent list so that snapshots can share it instead of copying it.
+     */
+    private PersistentList<AddressBookChange> changeLog = PersistentList.empty();
+
+    /** The number of changes made to this contact book since it was created. */
+    private long version;
+
+    /** Persons by email, leaving out the placeholder email. Updated by every person-level operation. */
+    private final PersonIndex<Email> emailIndex = new PersonIndex<>(person -> person.getEmail().isPlaceholder()
+            ? Collections.emptyList()
+            : Collections.singletonList(person.getEmail()));
+
+    /** Persons by case-folded tag name. Updated by every person-level operation. */
+    private final PersonIndex<String> tagIndex = new PersonIndex<>(person -> person.getTags().stream()
+            .map(Tag::getFoldedName)
+            .collect(Collectors.toList()));
+
+    /** Ids of the case-folded tag names used in this contact book, for testing persons' tags with bitmasks. */
+    private final TagDictionary tagDictionary = new TagDictionary();
+
+    /** Persons by lower-cased company word. Updated by every person-level operation. */
+    private final PersonIndex<String> companyTokenIndex =
+            new PersonIndex<>(person -> person.getCompany().getTokens());
+
+    /**
+     * Persons by lower-cased name trigram, in compact postings as every person is under a dozen or so trigrams.
+     * Updated by every person-level operation.
+     */
+    private final CompactPersonIndex<String> nameTrigramIndex =
+            new CompactPersonIndex<>(person -> person.getName().getTrigrams());
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -39,6 +90,18 @@ public class AddressBook implements ReadOnlyAddressBook {
         resetData(toBeCopied);
     }
 
+    /**
+     * Creates an AddressBook containing {@code persons}, in the given order.
+     * This is the bulk-load path: uniqueness is checked in a single hashing pass, the indexes are built once
+     * and the persons list fires a single change, instead of one check and one change per added person.
+     *
+     * @throws DuplicatePersonException naming the first person that duplicates an earlier one.
+     */
+    public AddressBook(List<Person> persons) {
+        this();
+        setPersons(persons);
+    }
+
     //// list overwrite operations
 
     /**
@@ -47,6 +110,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        reindexPersons();
+        recordChange(AddressBookChange.reset());
     }
 
     /**
@@ -73,35 +138,293 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person must not already exist in the contact book.
      */
     public void addPerson(Person p) {
-        persons.add(p);
+        addPersonAt(persons.asUnmodifiableObservableList().size(), p);
+    }
+
+    /**
+     * Inserts a contact into the contact book at position {@code index}, shifting the persons from there on.
+     * The person must not already exist in the contact book.
+     */
+    public void addPersonAt(int index, Person p) {
+        persons.add(index, p);
+        indexPerson(p);
+        recordChange(AddressBookChange.add(index, p));
     }
 
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the contact book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the contact book.
+     *
+     * @return the position of {@code target} in the list.
      */
-    public void setPerson(Person target, Person editedPerson) {
+    public int setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
-        persons.setPerson(target, editedPerson);
+        int index = persons.setPerson(target, editedPerson);
+        unindexPerson(target);
+        indexPerson(editedPerson);
+        recordChange(AddressBookChange.set(index, editedPerson));
+        return index;
+    }
+
+    /**
+     * Replaces the person at position {@code index} with {@code editedPerson}.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the contact book.
+     *
+     * @return the person replaced.
+     */
+    public Person setPersonAt(int index, Person editedPerson) {
+        Person replaced = persons.set(index, editedPerson);
+        unindexPerson(replaced);
+        indexPerson(editedPerson);
+        recordChange(AddressBookChange.set(index, editedPerson));
+        return replaced;
     }
 
     /**
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the contact book.
+     *
+     * @return the position {@code key} was removed from.
      */
-    public void removePerson(Person key) {
-        persons.remove(key);
+    public int removePerson(Person key) {
+        int index = persons.remove(key);
+        unindexPerson(key);
+        recordChange(AddressBookChange.remove(index));
+        return index;
+    }
+
+    /**
+     * Removes the person at position {@code index} from this {@code AddressBook}, shifting the persons after it.
+     *
+     * @return the person removed.
+     */
+    public Person removePersonAt(int index) {
+        Person removed = persons.remove(index);
+        unindexPerson(removed);
+        recordChange(AddressBookChange.remove(index));
+        return removed;
     }
 
     /**
      * Sorts the contact(s) in the contact book based on the given comparator.
      * @param comparator Comparator to sort the contact book.
+     * @return the order the persons were sorted in: the person at position {@code order[i]} moved to position
+     *     {@code i}, as taken by {@link #reorder(int[])}.
      */
-    public void sort(Comparator<Person> comparator) {
+    public int[] sort(Comparator<Person> comparator) {
         requireNonNull(comparator);
-        persons.sort(comparator);
+        int[] order = persons.sort(comparator);
+        recordChange(AddressBookChange.reorder(order));
+        return order;
+    }
+
+    /**
+     * Rearranges the persons so that the person at position {@code order[i]} moves to position {@code i}.
+     * {@code order} must be a permutation of the positions in the persons list.
+     */
+    public void reorder(int[] order) {
+        requireNonNull(order);
+        persons.reorder(order);
+        recordChange(AddressBookChange.reorder(order));
+    }
+
+    //// change log
+
+    /**
+     * Returns this contact book.
+     */
+    @Override
+    public AddressBook getOrigin() {
+        return this;
+    }
+
+    /**
+     * Returns the number of changes made to this contact book since it was created.
+     * The version grows by one with every operation that modifies the persons list.
+     */
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the changes made after this contact book was at {@code version}, oldest first,
+     * or {@code Optional.empty()} if some of them are no longer in the change log.
+     * Only the last {@link #CHANGE_LOG_CAPACITY} changes are kept.
+     */
+    @Override
+    public Optional<List<AddressBookChange>> getChangesSince(long version) {
+        long changeCount = this.version - version;
+        if (changeCount < 0 || changeCount > changeLog.size()) {
+            return Optional.empty();
+        }
+        return Optional.of(changeLog.subList(changeLog.size() - (int) changeCount, changeLog.size()));
+    }
+
+    /**
+     * Returns an immutable snapshot of the current state of this contact book and its change log.
+     * The snapshot shares the current versions of the persons list and the change log, so taking it costs
+     * O(1) time however large the contact book is.
+     */
+    public AddressBookSnapshot snapshot() {
+        return new AddressBookSnapshot(this, getPersistentPersonList(), version, changeLog);
+    }
+
+    private void recordChange(AddressBookChange change) {
+        if (changeLog.size() == CHANGE_LOG_CAPACITY) {
+            changeLog = changeLog.minus(0);
+        }
+        changeLog = changeLog.plus(change);
+        version++;
+    }
+
+    //// index lookups
+
+    @Override
+    public boolean hasEmail(Email email) {
+        requireNonNull(email);
+        return emailIndex.containsKey(email);
+    }
+
+    @Override
+    public Optional<Person> findByEmail(Email email) {
+        requireNonNull(email);
+        return emailIndex.get(email).stream().findFirst();
+    }
+
+    /**
+     * Returns the persons having at least one of the given {@code tags}, compared case-insensitively.
+     * Only the index entries of the given tags are looked at, so the cost depends on the number of matches
+     * rather than the size of the contact book.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> getPersonsWithAnyTag(Collection<Tag> tags) {
+        requireNonNull(tags);
+        Set<Person> matchingPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Tag tag : tags) {
+            matchingPersons.addAll(tagIndex.get(tag.getFoldedName()));
+        }
+        return matchingPersons;
+    }
+
+    /**
+     * Returns an upper bound on the size of {@link #getPersonsWithAnyTag(Collection)} for {@code tags},
+     * computed from the index entry sizes without collecting any person.
+     */
+    public int countPersonsWithAnyTag(Collection<Tag> tags) {
+        requireNonNull(tags);
+        int count = 0;
+        for (Tag tag : tags) {
+            count += tagIndex.count(tag.getFoldedName());
+        }
+        return count;
+    }
+
+    /**
+     * Returns a predicate that is true for persons having at least one of the given {@code tags},
+     * compared case-insensitively.
+     * The tags are turned into a mask over this contact book's tag dictionary once, so that each test is a
+     * bitmask AND. The query tags are given ids too, so the predicate stays correct for persons added later.
+     */
+    public Predicate<Person> getAnyTagFilter(Collection<Tag> tags) {
+        requireNonNull(tags);
+        long[] mask = tagDictionary.toBits(tags);
+        return person -> person.hasAnyTag(tagDictionary, mask);
+    }
+
+    /**
+     * Returns the persons whose company contains at least one of the given lower-cased {@code tokens}
+     * as a word (see {@link seedu.address.model.person.Company#getTokens()}).
+     * Only the index entries of the given tokens are looked at.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> getPersonsWithAnyCompanyToken(Collection<String> tokens) {
+        requireNonNull(tokens);
+        Set<Person> matchingPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String token : tokens) {
+            matchingPersons.addAll(companyTokenIndex.get(token));
+        }
+        return matchingPersons;
+    }
+
+    /**
+     * Returns an upper bound on the size of {@link #getPersonsWithAnyCompanyToken(Collection)} for {@code tokens},
+     * computed from the index entry sizes without collecting any person.
+     */
+    public int countPersonsWithAnyCompanyToken(Collection<String> tokens) {
+        requireNonNull(tokens);
+        int count = 0;
+        for (String token : tokens) {
+            count += companyTokenIndex.count(token);
+        }
+        return count;
+    }
+
+    /**
+     * Returns a superset of the persons whose name contains {@code keyword}, ignoring case.
+     * The candidates are the persons having every trigram of {@code keyword}, found by intersecting the
+     * index entries from the smallest one up; callers verify them with the actual containment check.
+     * If {@code keyword} is shorter than a trigram, every person is a candidate.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> getNameSubstringCandidates(String keyword) {
+        requireNonNull(keyword);
+        Set<String> trigrams = Name.trigrams(keyword);
+        if (trigrams.isEmpty()) {
+            Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+            candidates.addAll(persons.asUnmodifiableObservableList());
+            return candidates;
+        }
+        return nameTrigramIndex.getHavingAll(trigrams);
+    }
+
+    /**
+     * Returns an upper bound on the size of {@link #getNameSubstringCandidates(String)} for {@code keyword},
+     * computed from the index entry sizes without collecting any person.
+     */
+    public int countNameSubstringCandidates(String keyword) {
+        requireNonNull(keyword);
+        Set<String> trigrams = Name.trigrams(keyword);
+        if (trigrams.isEmpty()) {
+            return persons.asUnmodifiableObservableList().size();
+        }
+        return trigrams.stream().mapToInt(nameTrigramIndex::count).min().getAsInt();
+    }
+
+    /**
+     * Adds {@code person} to every secondary index.
+     */
+    private void indexPerson(Person person) {
+        emailIndex.add(person);
+        tagIndex.add(person);
+        companyTokenIndex.add(person);
+        nameTrigramIndex.add(person);
+    }
+
+    /**
+     * Removes {@code person} from every secondary index.
+     */
+    private void unindexPerson(Person person) {
+        emailIndex.remove(person);
+        tagIndex.remove(person);
+        companyTokenIndex.remove(person);
+        nameTrigramIndex.remove(person);
+    }
+
+    /**
+     * Rebuilds every secondary index from the current persons list.
+     */
+    private void reindexPersons() {
+        emailIndex.clear();
+        emailIndex.addAll(persons);
+        tagIndex.clear();
+        tagIndex.addAll(persons);
+        companyTokenIndex.clear();
+        companyTokenIndex.addAll(persons);
+        nameTrigramIndex.clear();
+        nameTrigramIndex.addAll(persons);
     }
 
     //// util methods
@@ -118,6 +441,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the current version of the persons list, which later changes to this contact book leave as it is.
+     */
+    PersistentList<Person> getPersistentPersonList() {
+        return persons.asPersistentList();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,116 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * A single change made to an {@link AddressBook}, as recorded in its change log.
+ * Positions refer to the persons list as it was when the change was made.
+ */
+public class AddressBookChange {
+
+    /**
+     * The kinds of change an {@code AddressBook} records.
+     */
+    public enum Kind {
+        /** A person was inserted at a position, usually at the end of the list. */
+        ADD,
+        /** The person at a position was replaced. */
+        SET,
+        /** The person at a position was removed. */
+        REMOVE,
+        /** The persons were rearranged, e.g. by a sort. */
+        REORDER,
+        /** The whole list was replaced, e.g. by a clear. */
+        RESET
+    }
+
+    private final Kind kind;
+    private final int index;
+    private final Person person;
+    private final int[] order;
+
+    private AddressBookChange(Kind kind, int index, Person person, int[] order) {
+        this.kind = kind;
+        this.index = index;
+        this.person = person;
+        this.order = order;
+    }
+
+    /**
+     * Returns the change of inserting {@code person} at position {@code index}.
+     */
+    public static AddressBookChange add(int index, Person person) {
+        requireNonNull(person);
+        return new AddressBookChange(Kind.ADD, index, person, null);
+    }
+
+    /**
+     * Returns the change of replacing the person at position {@code index} with {@code person}.
+     */
+    public static AddressBookChange set(int index, Person person) {
+        requireNonNull(person);
+        return new AddressBookChange(Kind.SET, index, person, null);
+    }
+
+    /**
+     * Returns the change of removing the person at position {@code index}.
+     */
+    public static AddressBookChange remove(int index) {
+        return new AddressBookChange(Kind.REMOVE, index, null, null);
+    }
+
+    /**
+     * Returns the change of moving the person at position {@code order[i]} to position {@code i}, for every i.
+     */
+    public static AddressBookChange reorder(int[] order) {
+        requireNonNull(order);
+        return new AddressBookChange(Kind.REORDER, -1, null, order.clone());
+    }
+
+    /**
+     * Returns the change of replacing the whole persons list.
+     */
+    public static AddressBookChange reset() {
+        return new AddressBookChange(Kind.RESET, -1, null, null);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the position affected by an {@code ADD}, {@code SET} or {@code REMOVE} change.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the person added by an {@code ADD} change or put in place by a {@code SET} change.
+     */
+    public Optional<Person> getPerson() {
+        return Optional.ofNullable(person);
+    }
+
+    /**
+     * Returns the order of a {@code REORDER} change: the person at position {@code order[i]} moved to position i.
+     */
+    public Optional<int[]> getOrder() {
+        return Optional.ofNullable(order).map(int[]::clone);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("kind", kind)
+                .add("index", index)
+                .add("person", person)
+                .toString();
+    }
+
+}
@@ -0,0 +1,98 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.PersistentList;
+
+/**
+ * An immutable copy of the state of an {@link AddressBook} at one version, together with its recent changes.
+ * Snapshots are taken on the application thread and can then be read safely from any other thread,
+ * e.g. to be saved in the background while the contact book keeps changing.
+ * A snapshot holds the persistent versions the contact book was at, so it copies nothing.
+ */
+public class AddressBookSnapshot implements TrackedAddressBook {
+
+    private final AddressBook origin;
+    private final long version;
+    private final ObservableList<Person> persons;
+    private final PersistentList<AddressBookChange> changeLog;
+
+    /**
+     * Creates a snapshot of {@code origin} holding {@code persons} at {@code version}, where {@code changeLog}
+     * holds the most recent changes, oldest first, ending with the change that produced {@code version}.
+     */
+    AddressBookSnapshot(AddressBook origin, PersistentList<Person> persons, long version,
+            PersistentList<AddressBookChange> changeLog) {
+        requireNonNull(origin);
+        requireNonNull(persons);
+        requireNonNull(changeLog);
+        this.origin = origin;
+        this.version = version;
+        // the wrappers are views of the persistent list, which no one can change
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+        this.changeLog = changeLog;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Snapshots have no email index, so this looks at every person.
+     */
+    @Override
+    public boolean hasEmail(Email email) {
+        return findByEmail(email).isPresent();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Snapshots have no email index, so this looks at every person.
+     */
+    @Override
+    public Optional<Person> findByEmail(Email email) {
+        requireNonNull(email);
+        if (email.isPlaceholder()) {
+            return Optional.empty();
+        }
+        return persons.stream().filter(person -> person.getEmail().equals(email)).findFirst();
+    }
+
+    @Override
+    public AddressBook getOrigin() {
+        return origin;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public Optional<List<AddressBookChange>> getChangesSince(long version) {
+        long changeCount = this.version - version;
+        if (changeCount < 0 || changeCount > changeLog.size()) {
+            return Optional.empty();
+        }
+        return Optional.of(changeLog.subList(changeLog.size() - (int) changeCount, changeLog.size()));
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("version", version)
+                .add("persons", persons)
+                .toString();
+    }
+
+}
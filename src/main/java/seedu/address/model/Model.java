@@ -1,14 +1,18 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.exceptions.EndOfCommandHistoryException;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -52,14 +56,79 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Replaces contact book data with the data in {@code addressBook} without recording it as a change that can
+     * be undone, and forgets every change that could be undone or redone, e.g. when the contact book is loaded.
+     */
+    void resetAddressBook(ReadOnlyAddressBook addressBook);
+
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the version of the contact book, which grows with every change made to its persons.
+     * The contact book is unchanged as long as its version is.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Returns an immutable snapshot of the contact book, which can be read from any thread.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the contact book.
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns true if a person with the given {@code email} exists in the contact book.
+     * The placeholder email is never reported as existing.
+     */
+    boolean hasEmail(Email email);
+
+    /**
+     * Returns the persons in the contact book having at least one of the given {@code tags}.
+     * The persons are looked up in the tag index instead of being tested one by one.
+     */
+    Set<Person> getPersonsWithAnyTag(Collection<Tag> tags);
+
+    /**
+     * Returns an upper bound on the number of persons {@link #getPersonsWithAnyTag(Collection)}
+     * would return for {@code tags}, without collecting them.
+     */
+    int countPersonsWithAnyTag(Collection<Tag> tags);
+
+    /**
+     * Returns a predicate that is true for persons having at least one of the given {@code tags},
+     * testing each person with a bitmask AND over the contact book's tag dictionary.
+     */
+    Predicate<Person> getAnyTagFilter(Collection<Tag> tags);
+
+    /**
+     * Returns the persons in the contact book whose company contains at least one of the given
+     * lower-cased {@code tokens} as a word.
+     */
+    Set<Person> getPersonsWithAnyCompanyToken(Collection<String> tokens);
+
+    /**
+     * Returns an upper bound on the number of persons {@link #getPersonsWithAnyCompanyToken(Collection)}
+     * would return for {@code tokens}, without collecting them.
+     */
+    int countPersonsWithAnyCompanyToken(Collection<String> tokens);
+
+    /**
+     * Returns a superset of the persons in the contact book whose name contains {@code keyword}, ignoring case.
+     * The candidates still have to be checked against the keyword.
+     */
+    Set<Person> getNameSubstringCandidates(String keyword);
+
+    /**
+     * Returns an upper bound on the number of persons {@link #getNameSubstringCandidates(String)}
+     * would return for {@code keyword}, without collecting them.
+     */
+    int countNameSubstringCandidates(String keyword);
+
     /**
      * Deletes the given person.
      * The person must exist in the contact book.
@@ -104,6 +173,33 @@ public interface Model {
      */
     void sortPersons(Comparator<Person> comparator);
 
+    /**
+     * Returns true if there is a change to the contact book that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Undoes the most recent change to the contact book that has not been undone.
+     * There must be such a change.
+     */
+    void undoAddressBook();
+
+    /**
+     * Returns true if there is an undone change to the contact book that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Redoes the most recently undone change to the contact book.
+     * There must be such a change.
+     */
+    void redoAddressBook();
+
+    /**
+     * Returns true if changes to the contact book are recorded so that they can be undone.
+     */
+    boolean isUndoEnabled();
+
     /**
      * Adds new command to Command History
      */
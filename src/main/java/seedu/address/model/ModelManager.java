@@ -4,7 +4,9 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -14,8 +16,11 @@ import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.EndOfCommandHistoryException;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.PersistentList;
 
 /**
  * Represents the in-memory model of the contact book data.
@@ -28,7 +33,7 @@ public class ModelManager implements Model {
     private final FilteredList<Person> filteredPersons;
     private SimpleObjectProperty<Person> focusedPerson;
     private final CommandHistory commandHistory;
-
+    private final UndoHistory undoHistory;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -41,6 +46,7 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         this.commandHistory = new CommandHistory();
+        this.undoHistory = new UndoHistory(getUndoHistoryMemoryLimit(this.userPrefs));
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         focusedPerson = new SimpleObjectProperty<>(null);
     }
@@ -55,6 +61,11 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        undoHistory.setMemoryLimit(getUndoHistoryMemoryLimit(this.userPrefs));
+    }
+
+    private static long getUndoHistoryMemoryLimit(ReadOnlyUserPrefs userPrefs) {
+        return Math.max(0, userPrefs.getUndoHistoryMegabytes()) * 1024L * 1024L;
     }
 
     @Override
@@ -88,7 +99,15 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        PersistentList<Person> replaced = this.addressBook.getPersistentPersonList();
+        this.addressBook.resetData(addressBook);
+        undoHistory.recordReset(replaced, this.addressBook.getPersistentPersonList());
+    }
+
+    @Override
+    public void resetAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        undoHistory.clear();
     }
 
     @Override
@@ -96,12 +115,70 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return addressBook.snapshot();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public boolean hasEmail(Email email) {
+        requireNonNull(email);
+        return addressBook.hasEmail(email);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithAnyTag(Collection<Tag> tags) {
+        requireNonNull(tags);
+        return addressBook.getPersonsWithAnyTag(tags);
+    }
+
+    @Override
+    public int countPersonsWithAnyTag(Collection<Tag> tags) {
+        requireNonNull(tags);
+        return addressBook.countPersonsWithAnyTag(tags);
+    }
+
+    @Override
+    public Predicate<Person> getAnyTagFilter(Collection<Tag> tags) {
+        requireNonNull(tags);
+        return addressBook.getAnyTagFilter(tags);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithAnyCompanyToken(Collection<String> tokens) {
+        requireNonNull(tokens);
+        return addressBook.getPersonsWithAnyCompanyToken(tokens);
+    }
+
+    @Override
+    public int countPersonsWithAnyCompanyToken(Collection<String> tokens) {
+        requireNonNull(tokens);
+        return addressBook.countPersonsWithAnyCompanyToken(tokens);
+    }
+
+    @Override
+    public Set<Person> getNameSubstringCandidates(String keyword) {
+        requireNonNull(keyword);
+        return addressBook.getNameSubstringCandidates(keyword);
+    }
+
+    @Override
+    public int countNameSubstringCandidates(String keyword) {
+        requireNonNull(keyword);
+        return addressBook.countNameSubstringCandidates(keyword);
+    }
+
     @Override
     public void deletePerson(Person target) {
         requireNonNull(target);
@@ -117,11 +194,12 @@ public class ModelManager implements Model {
 
         logger.fine(() -> "Deleting person: " + target);
 
-        addressBook.removePerson(target);
+        int index = addressBook.removePerson(target);
 
         if (addressBook.hasPerson(target)) {
             throw new AssertionError("Person should be removed from the contact book after deletion");
         }
+        undoHistory.recordRemove(index, target);
 
         logger.fine(() -> "Successfully deleted contact: " + target);
     }
@@ -129,6 +207,7 @@ public class ModelManager implements Model {
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
+        undoHistory.recordAdd(addressBook.getPersonList().size() - 1, person);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -136,13 +215,44 @@ public class ModelManager implements Model {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        addressBook.setPerson(target, editedPerson);
+        int index = addressBook.setPerson(target, editedPerson);
+        undoHistory.recordSet(index, target, editedPerson);
     }
 
     @Override
     public void sortPersons(Comparator<Person> comparator) {
         requireNonNull(comparator);
-        addressBook.sort(comparator);
+        int[] order = addressBook.sort(comparator);
+        undoHistory.recordReorder(order);
+    }
+
+    //=========== Undo History ===============================================================================
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return undoHistory.canUndo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        logger.fine(() -> "Undoing the last change: " + undoHistory);
+        undoHistory.undo(addressBook);
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return undoHistory.canRedo();
+    }
+
+    @Override
+    public void redoAddressBook() {
+        logger.fine(() -> "Redoing the last undone change: " + undoHistory);
+        undoHistory.redo(addressBook);
+    }
+
+    @Override
+    public boolean isUndoEnabled() {
+        return undoHistory.isEnabled();
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -1,6 +1,9 @@
 package seedu.address.model;
 
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
 
 /**
@@ -14,4 +17,16 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns true if a person with the given {@code email} exists in the contact book.
+     * The placeholder email is never reported as existing, since any number of contacts may share it.
+     */
+    boolean hasEmail(Email email);
+
+    /**
+     * Returns a person with the given {@code email}, or {@code Optional.empty()} if there is none
+     * or {@code email} is the placeholder email.
+     */
+    Optional<Person> findByEmail(Email email);
+
 }
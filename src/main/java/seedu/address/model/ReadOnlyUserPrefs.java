@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -13,4 +14,22 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the format the contact book is saved in. The file path above is that of the JSON data file;
+     * other formats are saved next to it.
+     */
+    DataFileFormat getDataFileFormat();
+
+    /**
+     * Returns the Deflater level the contact book is compressed at in the compressed format,
+     * from 0 (stored without compression) to 9 (smallest but slowest).
+     */
+    int getDataFileCompressionLevel();
+
+    /**
+     * Returns the most memory, in megabytes, kept for undoing and redoing changes to the contact book.
+     * The oldest changes are forgotten beyond it; 0 keeps none.
+     */
+    int getUndoHistoryMegabytes();
+
 }
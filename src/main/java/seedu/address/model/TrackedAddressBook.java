@@ -0,0 +1,28 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A contact book that knows the changes recently made to it, so that storage can save only those changes.
+ */
+public interface TrackedAddressBook extends ReadOnlyAddressBook {
+
+    /**
+     * Returns the contact book whose changes are tracked: itself, or the contact book a snapshot was taken of.
+     * Versions of contact books with the same origin can be compared.
+     */
+    AddressBook getOrigin();
+
+    /**
+     * Returns the number of changes made to the origin contact book up to this state.
+     */
+    long getVersion();
+
+    /**
+     * Returns the changes that lead from {@code version} to this state, oldest first,
+     * or {@code Optional.empty()} if they are not all known.
+     */
+    Optional<List<AddressBookChange>> getChangesSince(long version);
+
+}
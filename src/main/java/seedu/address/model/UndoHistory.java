@@ -0,0 +1,313 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.util.ObjectSizes.ARRAY_HEADER_BYTES;
+import static seedu.address.model.util.ObjectSizes.OBJECT_HEADER_BYTES;
+import static seedu.address.model.util.ObjectSizes.REFERENCE_BYTES;
+import static seedu.address.model.util.ObjectSizes.align;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.columnar.ColumnarAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.PersistentList;
+
+/**
+ * The changes made to a contact book that can be undone and redone, most recent last.
+ * Each change is kept as the delta that reverses it, e.g. the position and person of a removal, rather than as a
+ * copy of the contact book, so undoing or redoing a change takes time in proportion to the size of the change.
+ * A sort is kept as the permutation it applied, and a replacement of the whole contact book (e.g. a clear) as
+ * the persistent version of the persons list it replaced, which is shared with the contact book instead of copied.
+ *
+ * The history holds on to at most a given amount of memory, as roughly estimated from the persons and positions
+ * each change keeps. The oldest changes are forgotten first to stay within it, but the most recent change is kept
+ * even if it alone is over the limit, so that the last change can always be undone. A limit of 0 turns the
+ * history off: no change is recorded, not even the most recent one.
+ */
+public class UndoHistory {
+
+    /** A step with its size and the values it captures, and its slot in the history. */
+    private static final long STEP_BYTES = align(OBJECT_HEADER_BYTES + Long.BYTES + 4 * REFERENCE_BYTES)
+            + REFERENCE_BYTES;
+    /** A person with its fields, most of which are not shared with other persons. */
+    private static final long PERSON_BYTES = 512;
+
+    private final Deque<Step> undoSteps = new ArrayDeque<>();
+    private final Deque<Step> redoSteps = new ArrayDeque<>();
+    private long memoryLimit;
+    private long memoryUsed;
+
+    /**
+     * Creates an empty history that holds on to at most {@code memoryLimit} bytes.
+     */
+    public UndoHistory(long memoryLimit) {
+        setMemoryLimit(memoryLimit);
+    }
+
+    /**
+     * Sets the most memory, in bytes, the history may hold on to, forgetting the oldest changes if it holds more.
+     */
+    public void setMemoryLimit(long memoryLimit) {
+        if (memoryLimit < 0) {
+            throw new IllegalArgumentException("Memory limit cannot be negative: " + memoryLimit);
+        }
+        this.memoryLimit = memoryLimit;
+        evictOldest(0);
+    }
+
+    /**
+     * Returns true if changes are recorded, i.e. the memory limit is above 0.
+     */
+    public boolean isEnabled() {
+        return memoryLimit > 0;
+    }
+
+    /**
+     * Returns the estimated memory, in bytes, held on to by the changes in the history.
+     */
+    public long getMemoryUsed() {
+        return memoryUsed;
+    }
+
+    /**
+     * Records that {@code person} was inserted at position {@code index}.
+     */
+    public void recordAdd(int index, Person person) {
+        requireNonNull(person);
+        record(new Step(PERSON_BYTES) {
+            @Override
+            void undo(AddressBook addressBook) {
+                addressBook.removePersonAt(index);
+            }
+
+            @Override
+            void redo(AddressBook addressBook) {
+                addressBook.addPersonAt(index, person);
+            }
+        });
+    }
+
+    /**
+     * Records that the person at position {@code index} was replaced, from {@code replaced} to {@code edited}.
+     */
+    public void recordSet(int index, Person replaced, Person edited) {
+        requireNonNull(replaced);
+        requireNonNull(edited);
+        record(new Step(2 * PERSON_BYTES) {
+            @Override
+            void undo(AddressBook addressBook) {
+                addressBook.setPersonAt(index, replaced);
+            }
+
+            @Override
+            void redo(AddressBook addressBook) {
+                addressBook.setPersonAt(index, edited);
+            }
+        });
+    }
+
+    /**
+     * Records that {@code removed} was removed from position {@code index}.
+     */
+    public void recordRemove(int index, Person removed) {
+        requireNonNull(removed);
+        record(new Step(PERSON_BYTES) {
+            @Override
+            void undo(AddressBook addressBook) {
+                addressBook.addPersonAt(index, removed);
+            }
+
+            @Override
+            void redo(AddressBook addressBook) {
+                addressBook.removePersonAt(index);
+            }
+        });
+    }
+
+    /**
+     * Records that the persons were rearranged by {@code order}: the person at position {@code order[i]} moved to
+     * position {@code i}. Only the permutation is kept, not the persons.
+     */
+    public void recordReorder(int[] order) {
+        requireNonNull(order);
+        int[] savedOrder = order.clone();
+        record(new Step(ARRAY_HEADER_BYTES + (long) Integer.BYTES * order.length) {
+            @Override
+            void undo(AddressBook addressBook) {
+                int[] inverse = new int[savedOrder.length];
+                for (int i = 0; i < savedOrder.length; i++) {
+                    inverse[savedOrder[i]] = i;
+                }
+                addressBook.reorder(inverse);
+            }
+
+            @Override
+            void redo(AddressBook addressBook) {
+                addressBook.reorder(savedOrder);
+            }
+        });
+    }
+
+    /**
+     * Records that the whole persons list was replaced, from {@code replaced} to {@code replacement}.
+     * Only {@code replaced} is charged for: {@code replacement} is the contact book's current list, which the
+     * contact book holds on to anyway.
+     *
+     * {@code replaced} is kept as it is if it fits within the memory limit. Otherwise, e.g. when a very large
+     * contact book is cleared, it is kept as a {@link ColumnarAddressBook}, which takes a fraction of the memory
+     * and recreates the persons when the change is undone.
+     */
+    public void recordReset(PersistentList<Person> replaced, PersistentList<Person> replacement) {
+        requireNonNull(replaced);
+        requireNonNull(replacement);
+        if (!isEnabled()) {
+            return;
+        }
+        long replacedSize = PERSON_BYTES * replaced.size();
+        if (STEP_BYTES + replacedSize > memoryLimit) {
+            recordCompactedReset(new ColumnarAddressBook(replaced), replacement);
+            return;
+        }
+        record(new Step(replacedSize) {
+            @Override
+            void undo(AddressBook addressBook) {
+                addressBook.setPersons(replaced);
+            }
+
+            @Override
+            void redo(AddressBook addressBook) {
+                addressBook.setPersons(replacement);
+            }
+        });
+    }
+
+    private void recordCompactedReset(ColumnarAddressBook replaced, PersistentList<Person> replacement) {
+        record(new Step(replaced.getByteCount()) {
+            @Override
+            void undo(AddressBook addressBook) {
+                addressBook.setPersons(replaced.getPersonList());
+            }
+
+            @Override
+            void redo(AddressBook addressBook) {
+                addressBook.setPersons(replacement);
+            }
+        });
+    }
+
+    /**
+     * Returns true if there is a change that can be undone.
+     */
+    public boolean canUndo() {
+        return !undoSteps.isEmpty();
+    }
+
+    /**
+     * Returns true if there is an undone change that can be redone.
+     */
+    public boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Undoes the most recent change not yet undone on {@code addressBook}, which must be the contact book the
+     * changes were made to, as it was after that change.
+     *
+     * @throws java.util.NoSuchElementException if there is no change to undo.
+     */
+    public void undo(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        Step step = undoSteps.getLast();
+        step.undo(addressBook);
+        undoSteps.removeLast();
+        redoSteps.addLast(step);
+    }
+
+    /**
+     * Redoes the most recently undone change on {@code addressBook}, which must be the contact book the change
+     * was undone on, as it was after undoing it.
+     *
+     * @throws java.util.NoSuchElementException if there is no change to redo.
+     */
+    public void redo(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        Step step = redoSteps.getLast();
+        step.redo(addressBook);
+        redoSteps.removeLast();
+        undoSteps.addLast(step);
+    }
+
+    /**
+     * Forgets every change.
+     */
+    public void clear() {
+        undoSteps.clear();
+        redoSteps.clear();
+        memoryUsed = 0;
+    }
+
+    /**
+     * Adds {@code step} as the most recent change, unless the history is off. The undone changes can no longer be
+     * redone after a new change.
+     */
+    private void record(Step step) {
+        if (!isEnabled()) {
+            return;
+        }
+        for (Step undone : redoSteps) {
+            memoryUsed -= undone.estimateSize();
+        }
+        redoSteps.clear();
+        undoSteps.addLast(step);
+        memoryUsed += step.estimateSize();
+        evictOldest(1);
+    }
+
+    /**
+     * Forgets the oldest changes until the history is within its memory limit, keeping at least the
+     * {@code undoStepsKept} most recent changes that can be undone.
+     */
+    private void evictOldest(int undoStepsKept) {
+        while (memoryUsed > memoryLimit && undoSteps.size() > undoStepsKept) {
+            memoryUsed -= undoSteps.removeFirst().estimateSize();
+        }
+        while (memoryUsed > memoryLimit && !redoSteps.isEmpty()) {
+            // the undone changes furthest from the current state are the last to be redone
+            memoryUsed -= redoSteps.removeFirst().estimateSize();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("undoSteps", undoSteps.size())
+                .add("redoSteps", redoSteps.size())
+                .add("memoryUsed", memoryUsed)
+                .toString();
+    }
+
+    /**
+     * A recorded change, which can be undone and redone.
+     */
+    private abstract static class Step {
+        private final long size;
+
+        Step(long dataSize) {
+            this.size = STEP_BYTES + dataSize;
+        }
+
+        /**
+         * Returns the estimated memory, in bytes, held on to by this step.
+         */
+        long estimateSize() {
+            return size;
+        }
+
+        abstract void undo(AddressBook addressBook);
+
+        abstract void redo(AddressBook addressBook);
+    }
+
+}
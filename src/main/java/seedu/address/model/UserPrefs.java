@@ -6,6 +6,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -13,8 +14,14 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_COMPRESSION_LEVEL = 6;
+    public static final int DEFAULT_UNDO_HISTORY_MEGABYTES = 64;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "fastcard.json");
+    private DataFileFormat dataFileFormat = DataFileFormat.JSON;
+    private int dataFileCompressionLevel = DEFAULT_COMPRESSION_LEVEL;
+    private int undoHistoryMegabytes = DEFAULT_UNDO_HISTORY_MEGABYTES;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +43,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setDataFileFormat(newUserPrefs.getDataFileFormat());
+        setDataFileCompressionLevel(newUserPrefs.getDataFileCompressionLevel());
+        setUndoHistoryMegabytes(newUserPrefs.getUndoHistoryMegabytes());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +66,31 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public DataFileFormat getDataFileFormat() {
+        return dataFileFormat;
+    }
+
+    public void setDataFileFormat(DataFileFormat dataFileFormat) {
+        requireNonNull(dataFileFormat);
+        this.dataFileFormat = dataFileFormat;
+    }
+
+    public int getDataFileCompressionLevel() {
+        return dataFileCompressionLevel;
+    }
+
+    public void setDataFileCompressionLevel(int dataFileCompressionLevel) {
+        this.dataFileCompressionLevel = dataFileCompressionLevel;
+    }
+
+    public int getUndoHistoryMegabytes() {
+        return undoHistoryMegabytes;
+    }
+
+    public void setUndoHistoryMegabytes(int undoHistoryMegabytes) {
+        this.undoHistoryMegabytes = undoHistoryMegabytes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +104,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && dataFileFormat == otherUserPrefs.dataFileFormat
+                && dataFileCompressionLevel == otherUserPrefs.dataFileCompressionLevel
+                && undoHistoryMegabytes == otherUserPrefs.undoHistoryMegabytes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, dataFileFormat, dataFileCompressionLevel,
+                undoHistoryMegabytes);
     }
 
     @Override
@@ -82,6 +121,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nData file format : " + dataFileFormat);
+        sb.append("\nData file compression level : " + dataFileCompressionLevel);
+        sb.append("\nUndo history memory limit (MB) : " + undoHistoryMegabytes);
         return sb.toString();
     }
 
@@ -0,0 +1,396 @@
+package seedu.address.model.columnar;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Company;
+import seedu.address.model.person.Detail;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An immutable contact book that stores its persons column-wise instead of as {@code Person} objects.
+ *
+ * Each text field is packed into a {@link StringColumn}, companies are stored as ids into a dictionary of the
+ * distinct companies, and tags as ids into a dictionary of the distinct tag sets, each with a bitmap over the
+ * distinct case-folded tag names. A book of millions of contacts then needs a few arrays instead of several
+ * objects per contact.
+ *
+ * {@code Person} objects are only created when the persons list is read, and are not kept. As every value was
+ * validated when its person was created, they are recreated without being validated again, and persons with the
+ * same tags share one tag set. The filters and sorts below run directly over the columns and return positions in
+ * the persons list.
+ */
+public class ColumnarAddressBook implements ReadOnlyAddressBook {
+
+    private static final int BITS_PER_WORD = Long.SIZE;
+
+    /** The length of the runs insertion sorted before merging, where insertion beats merging. */
+    private static final int INSERTION_SORT_RUN = 32;
+
+    private final int size;
+    private final StringColumn names;
+    private final StringColumn phones;
+    private final StringColumn emails;
+    private final StringColumn details;
+
+    private final Company[] companyDictionary;
+    private final int[] companyIds;
+
+    /** A person having each distinct tag set, so that the tag set can be shared by the persons created. */
+    private final Person[] tagSetDictionary;
+    private final int[] tagSetIds;
+    private final String[] foldedTagNames;
+    private final int wordsPerTagSet;
+    private final long[] tagSetBitmaps;
+
+    /** Positions of the persons in ascending email order, for binary searches by email. */
+    private final int[] emailOrder;
+
+    private final ObservableList<Person> personList = new PersonListView();
+
+    /**
+     * Creates a columnar copy of the persons in {@code source}, in the same order.
+     */
+    public ColumnarAddressBook(ReadOnlyAddressBook source) {
+        this(requireNonNull(source).getPersonList());
+    }
+
+    /**
+     * Creates a columnar copy of {@code persons}, in the same order.
+     */
+    public ColumnarAddressBook(List<Person> persons) {
+        requireNonNull(persons);
+        size = persons.size();
+
+        List<String> nameValues = new ArrayList<>(size);
+        List<String> phoneValues = new ArrayList<>(size);
+        List<String> emailValues = new ArrayList<>(size);
+        List<String> detailValues = new ArrayList<>(size);
+        Map<Company, Integer> companyIdsByValue = new HashMap<>();
+        // tag sets are told apart by their exact spellings, so that every person keeps the case of its tags
+        Map<Set<String>, Integer> tagSetIdsBySpellings = new HashMap<>();
+        List<Person> tagSets = new ArrayList<>();
+        Map<String, Integer> tagIdsByFoldedName = new HashMap<>();
+
+        companyIds = new int[size];
+        tagSetIds = new int[size];
+        int i = 0;
+        for (Person person : persons) {
+            nameValues.add(person.getName().fullName);
+            phoneValues.add(person.getPhone().value);
+            emailValues.add(person.getEmail().value);
+            detailValues.add(person.getDetail().value);
+            companyIds[i] = companyIdsByValue.computeIfAbsent(person.getCompany(),
+                    unused -> companyIdsByValue.size());
+            Set<String> spellings = person.getTags().stream().map(tag -> tag.tagName).collect(Collectors.toSet());
+            tagSetIds[i] = tagSetIdsBySpellings.computeIfAbsent(spellings, unused -> {
+                tagSets.add(person);
+                for (Tag tag : person.getTags()) {
+                    tagIdsByFoldedName.putIfAbsent(tag.getFoldedName(), tagIdsByFoldedName.size());
+                }
+                return tagSets.size() - 1;
+            });
+            i++;
+        }
+
+        names = new StringColumn(nameValues);
+        phones = new StringColumn(phoneValues);
+        emails = new StringColumn(emailValues);
+        details = new StringColumn(detailValues);
+        companyDictionary = new Company[companyIdsByValue.size()];
+        companyIdsByValue.forEach((company, id) -> companyDictionary[id] = company);
+        tagSetDictionary = tagSets.toArray(new Person[0]);
+        foldedTagNames = new String[tagIdsByFoldedName.size()];
+        tagIdsByFoldedName.forEach((foldedName, id) -> foldedTagNames[id] = foldedName);
+
+        wordsPerTagSet = (foldedTagNames.length + BITS_PER_WORD - 1) / BITS_PER_WORD;
+        tagSetBitmaps = new long[tagSetDictionary.length * wordsPerTagSet];
+        for (int tagSetId = 0; tagSetId < tagSetDictionary.length; tagSetId++) {
+            for (Tag tag : tagSetDictionary[tagSetId].getTags()) {
+                setBit(tagSetBitmaps, tagSetId * wordsPerTagSet, tagIdsByFoldedName.get(tag.getFoldedName()));
+            }
+        }
+
+        emailOrder = sortedPositions(emails::compare);
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return personList;
+    }
+
+    /**
+     * Returns the number of persons in this contact book.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Creates the {@code Person} at {@code index} from the columns, sharing the tag set and company of the
+     * persons with the same tags and company.
+     */
+    public Person getPerson(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return Person.withTagsOf(tagSetDictionary[tagSetIds[index]], Name.ofValidated(names.get(index)),
+                Phone.ofValidated(phones.get(index)), Email.ofValidated(emails.get(index)),
+                companyDictionary[companyIds[index]], Detail.ofValidated(details.get(index)));
+    }
+
+    @Override
+    public boolean hasEmail(Email email) {
+        requireNonNull(email);
+        return findEmailPosition(email) >= 0;
+    }
+
+    @Override
+    public Optional<Person> findByEmail(Email email) {
+        requireNonNull(email);
+        int position = findEmailPosition(email);
+        return position < 0 ? Optional.empty() : Optional.of(getPerson(position));
+    }
+
+    //// column filters and sorts
+
+    /**
+     * Returns the positions, in ascending order, of the persons having at least one of the given {@code tags},
+     * compared case-insensitively. Each distinct tag set is tested once, with a bitmask AND over its bitmap.
+     */
+    public int[] filterByAnyTag(Collection<Tag> tags) {
+        requireNonNull(tags);
+        Set<String> foldedNames = tags.stream().map(Tag::getFoldedName).collect(Collectors.toSet());
+        long[] mask = new long[wordsPerTagSet];
+        for (int tagId = 0; tagId < foldedTagNames.length; tagId++) {
+            if (foldedNames.contains(foldedTagNames[tagId])) {
+                setBit(mask, 0, tagId);
+            }
+        }
+        boolean[] isMatchingTagSet = new boolean[tagSetDictionary.length];
+        for (int tagSetId = 0; tagSetId < tagSetDictionary.length; tagSetId++) {
+            isMatchingTagSet[tagSetId] = intersects(tagSetId, mask);
+        }
+        return IntStream.range(0, size).filter(index -> isMatchingTagSet[tagSetIds[index]]).toArray();
+    }
+
+    /**
+     * Returns the positions, in ascending order, of the persons whose name contains {@code keyword},
+     * ignoring case. The names are searched in their encoded form without being decoded.
+     */
+    public int[] filterByNameContaining(String keyword) {
+        requireNonNull(keyword);
+        // names only contain ASCII characters, so comparing their bytes in lower case ignores case
+        byte[] needle = keyword.toLowerCase().getBytes(StandardCharsets.UTF_8);
+        return IntStream.range(0, size).filter(index -> names.containsIgnoreAsciiCase(index, needle)).toArray();
+    }
+
+    /**
+     * Returns the positions of all persons, ordered by name ignoring case.
+     * Persons with equal names keep their relative order.
+     */
+    public int[] sortByName() {
+        return sortedPositions(names::compareIgnoreAsciiCase);
+    }
+
+    /**
+     * Returns the positions of all persons, ordered by their smallest tag name ignoring case.
+     * Persons without tags come first, and persons with equal keys keep their relative order.
+     */
+    public int[] sortByTag() {
+        // rank the tag names once, so that each tag set's key is the smallest rank among its tags
+        int[] tagIdsByName = sortedIndices(foldedTagNames.length,
+                (first, second) -> foldedTagNames[first].compareTo(foldedTagNames[second]));
+        int[] rankOfTagId = new int[foldedTagNames.length];
+        for (int rank = 0; rank < tagIdsByName.length; rank++) {
+            rankOfTagId[tagIdsByName[rank]] = rank;
+        }
+
+        int[] keys = new int[tagSetDictionary.length];
+        for (int tagSetId = 0; tagSetId < tagSetDictionary.length; tagSetId++) {
+            keys[tagSetId] = smallestTagRank(tagSetId, rankOfTagId);
+        }
+        return sortedPositions((first, second) -> Integer.compare(keys[tagSetIds[first]], keys[tagSetIds[second]]));
+    }
+
+    /**
+     * Returns the number of bytes held by the columns of this contact book, leaving out the fixed
+     * overhead of the column objects themselves and the shared companies and tag sets they refer to.
+     */
+    public long getByteCount() {
+        long byteCount = names.getByteCount() + phones.getByteCount() + emails.getByteCount()
+                + details.getByteCount();
+        byteCount += (long) companyIds.length * Integer.BYTES + (long) tagSetIds.length * Integer.BYTES
+                + (long) emailOrder.length * Integer.BYTES;
+        return byteCount + (long) tagSetBitmaps.length * Long.BYTES;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("size", size)
+                .add("byteCount", getByteCount())
+                .toString();
+    }
+
+    private int findEmailPosition(Email email) {
+        if (email.isPlaceholder()) {
+            return -1;
+        }
+        byte[] key = email.value.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = emails.compareTo(emailOrder[middle], key);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return emailOrder[middle];
+            }
+        }
+        return -1;
+    }
+
+    private boolean intersects(int tagSetId, long[] mask) {
+        int base = tagSetId * wordsPerTagSet;
+        for (int word = 0; word < wordsPerTagSet; word++) {
+            if ((tagSetBitmaps[base + word] & mask[word]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int smallestTagRank(int tagSetId, int[] rankOfTagId) {
+        int smallest = -1;
+        int base = tagSetId * wordsPerTagSet;
+        for (int tagId = 0; tagId < foldedTagNames.length; tagId++) {
+            if (isBitSet(tagSetBitmaps, base, tagId) && (smallest < 0 || rankOfTagId[tagId] < smallest)) {
+                smallest = rankOfTagId[tagId];
+            }
+        }
+        return smallest;
+    }
+
+    /**
+     * Returns the positions of all persons, stably sorted with {@code comparator} over positions.
+     */
+    private int[] sortedPositions(PositionComparator comparator) {
+        return sortedIndices(size, comparator);
+    }
+
+    /**
+     * Returns the indices from 0 to {@code count - 1}, stably sorted with {@code comparator}.
+     * The indices are merge sorted as primitive ints, so that none is boxed: runs of
+     * {@link #INSERTION_SORT_RUN} are sorted by insertion, then merged in runs of doubling width back and forth
+     * between two arrays.
+     */
+    private static int[] sortedIndices(int count, PositionComparator comparator) {
+        int[] indices = IntStream.range(0, count).toArray();
+        for (int start = 0; start < count; start += INSERTION_SORT_RUN) {
+            insertionSort(indices, start, Math.min(start + INSERTION_SORT_RUN, count), comparator);
+        }
+
+        int[] from = indices;
+        int[] to = new int[count];
+        for (long width = INSERTION_SORT_RUN; width < count; width *= 2) {
+            for (long start = 0; start < count; start += 2 * width) {
+                int middle = (int) Math.min(start + width, count);
+                int end = (int) Math.min(start + 2 * width, count);
+                merge(from, to, (int) start, middle, end, comparator);
+            }
+            int[] merged = to;
+            to = from;
+            from = merged;
+        }
+        return from;
+    }
+
+    private static void insertionSort(int[] indices, int start, int end, PositionComparator comparator) {
+        for (int i = start + 1; i < end; i++) {
+            int index = indices[i];
+            int j = i - 1;
+            while (j >= start && comparator.compare(indices[j], index) > 0) {
+                indices[j + 1] = indices[j];
+                j--;
+            }
+            indices[j + 1] = index;
+        }
+    }
+
+    /**
+     * Merges the sorted runs {@code from[start, middle)} and {@code from[middle, end)} into {@code to[start, end)},
+     * taking from the first run on ties to keep the sort stable.
+     */
+    private static void merge(int[] from, int[] to, int start, int middle, int end, PositionComparator comparator) {
+        if (middle == end || comparator.compare(from[middle - 1], from[middle]) <= 0) {
+            // the runs are already in order
+            System.arraycopy(from, start, to, start, end - start);
+            return;
+        }
+        int left = start;
+        int right = middle;
+        for (int i = start; i < end; i++) {
+            if (right == end || left < middle && comparator.compare(from[left], from[right]) <= 0) {
+                to[i] = from[left++];
+            } else {
+                to[i] = from[right++];
+            }
+        }
+    }
+
+    private static void setBit(long[] bitmap, int base, int bit) {
+        bitmap[base + bit / BITS_PER_WORD] |= 1L << (bit % BITS_PER_WORD);
+    }
+
+    private static boolean isBitSet(long[] bitmap, int base, int bit) {
+        return (bitmap[base + bit / BITS_PER_WORD] & (1L << (bit % BITS_PER_WORD))) != 0;
+    }
+
+    /**
+     * Compares two persons by their positions.
+     */
+    @FunctionalInterface
+    private interface PositionComparator {
+        int compare(int first, int second);
+    }
+
+    /**
+     * A read-only list view that creates each {@code Person} from the columns when it is read.
+     */
+    private class PersonListView extends ObservableListBase<Person> {
+
+        @Override
+        public Person get(int index) {
+            return getPerson(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+    }
+
+}
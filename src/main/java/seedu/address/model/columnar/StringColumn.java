@@ -0,0 +1,132 @@
+package seedu.address.model.columnar;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A column of strings packed into a single UTF-8 byte array, with an offset table marking where each string starts.
+ * Compared to a {@code String[]}, this saves the per-string object headers and the UTF-16 encoding of
+ * mostly-ASCII text. Strings are only decoded when {@link #get(int)} is called.
+ */
+class StringColumn {
+
+    private final byte[] data;
+    private final int[] offsets;
+
+    /**
+     * Creates a column holding {@code values}, in order.
+     */
+    StringColumn(List<String> values) {
+        requireNonNull(values);
+        offsets = new int[values.size() + 1];
+        byte[] buffer = new byte[Math.max(16, values.size() * 8)];
+        int length = 0;
+        for (int i = 0; i < values.size(); i++) {
+            byte[] encoded = values.get(i).getBytes(StandardCharsets.UTF_8);
+            if (length + encoded.length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + encoded.length));
+            }
+            System.arraycopy(encoded, 0, buffer, length, encoded.length);
+            length += encoded.length;
+            offsets[i + 1] = length;
+        }
+        data = Arrays.copyOf(buffer, length);
+    }
+
+    /**
+     * Returns the number of strings in this column.
+     */
+    int size() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * Decodes the string at {@code index}.
+     */
+    String get(int index) {
+        return new String(data, offsets[index], offsets[index + 1] - offsets[index], StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns true if the string at {@code index} contains {@code lowerCaseNeedle}, with the string's ASCII letters
+     * compared in lower case. {@code lowerCaseNeedle} must be the UTF-8 encoding of a lower-cased string.
+     */
+    boolean containsIgnoreAsciiCase(int index, byte[] lowerCaseNeedle) {
+        int start = offsets[index];
+        int last = offsets[index + 1] - lowerCaseNeedle.length;
+        for (int i = start; i <= last; i++) {
+            int j = 0;
+            while (j < lowerCaseNeedle.length && toLowerAscii(data[i + j]) == lowerCaseNeedle[j]) {
+                j++;
+            }
+            if (j == lowerCaseNeedle.length) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Compares the strings at {@code first} and {@code second} byte by byte, with ASCII letters compared in lower
+     * case. For ASCII strings this is the same order as {@link String#CASE_INSENSITIVE_ORDER}.
+     */
+    int compareIgnoreAsciiCase(int first, int second) {
+        int i = offsets[first];
+        int j = offsets[second];
+        int firstEnd = offsets[first + 1];
+        int secondEnd = offsets[second + 1];
+        while (i < firstEnd && j < secondEnd) {
+            int difference = (toLowerAscii(data[i]) & 0xff) - (toLowerAscii(data[j]) & 0xff);
+            if (difference != 0) {
+                return difference;
+            }
+            i++;
+            j++;
+        }
+        return (firstEnd - offsets[first]) - (secondEnd - offsets[second]);
+    }
+
+    /**
+     * Compares the string at {@code index} with the UTF-8 encoded {@code key}, byte by byte.
+     */
+    int compareTo(int index, byte[] key) {
+        return compareBytes(data, offsets[index], offsets[index + 1], key, 0, key.length);
+    }
+
+    /**
+     * Compares the strings at {@code first} and {@code second} byte by byte.
+     */
+    int compare(int first, int second) {
+        return compareBytes(data, offsets[first], offsets[first + 1], data, offsets[second], offsets[second + 1]);
+    }
+
+    /**
+     * Returns the number of bytes held by this column, including its offset table.
+     */
+    long getByteCount() {
+        return data.length + (long) offsets.length * Integer.BYTES;
+    }
+
+    private static int compareBytes(byte[] first, int firstStart, int firstEnd,
+            byte[] second, int secondStart, int secondEnd) {
+        int i = firstStart;
+        int j = secondStart;
+        while (i < firstEnd && j < secondEnd) {
+            int difference = (first[i] & 0xff) - (second[j] & 0xff);
+            if (difference != 0) {
+                return difference;
+            }
+            i++;
+            j++;
+        }
+        return (firstEnd - firstStart) - (secondEnd - secondStart);
+    }
+
+    private static byte toLowerAscii(byte b) {
+        return b >= 'A' && b <= 'Z' ? (byte) (b + ('a' - 'A')) : b;
+    }
+
+}
@@ -0,0 +1,241 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * A secondary index like {@link PersonIndex}, for keys that every person has many of, e.g. the trigrams of a name.
+ * Each person indexed takes a slot, and the persons under a key are kept as a sorted array of their slots instead
+ * of a set of persons. An entry then costs 4 bytes instead of the 40 or so of a hash set entry, which adds up to
+ * several hundred bytes per person for keys such as trigrams, and the persons having every one of several keys are
+ * found by merging the sorted arrays.
+ *
+ * Adding or removing a person costs time linear in the number of persons under each of its keys, as the arrays are
+ * shifted, and a person is found among the slots by a scan of the smallest array it is in. Persons are told apart
+ * by identity. As with {@code PersonIndex}, the owner must call {@link #add(Person)} and {@link #remove(Person)}
+ * whenever a person is added to or removed from the indexed list.
+ *
+ * @param <K> the type of the keys in this index
+ */
+public class CompactPersonIndex<K> {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private final Function<Person, ? extends Collection<K>> keyFunction;
+    private final Map<K, Postings> postings = new HashMap<>();
+
+    /** The person in each slot, or null if the slot is free. */
+    private Person[] slots = new Person[INITIAL_CAPACITY];
+    private int slotCount;
+    private int[] freeSlots = new int[INITIAL_CAPACITY];
+    private int freeSlotCount;
+
+    /**
+     * Creates an empty {@code CompactPersonIndex} that indexes each person by the keys given by {@code keyFunction}.
+     */
+    public CompactPersonIndex(Function<Person, ? extends Collection<K>> keyFunction) {
+        requireNonNull(keyFunction);
+        this.keyFunction = keyFunction;
+    }
+
+    /**
+     * Adds {@code person} under each of its keys.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        Collection<K> keys = keyFunction.apply(person);
+        if (keys.isEmpty()) {
+            return;
+        }
+        int slot = takeSlot(person);
+        for (K key : keys) {
+            postings.computeIfAbsent(key, unused -> new Postings()).insert(slot);
+        }
+    }
+
+    /**
+     * Adds every person in {@code persons} under each of their keys.
+     */
+    public void addAll(Iterable<Person> persons) {
+        requireNonNull(persons);
+        for (Person person : persons) {
+            add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from under each of its keys.
+     * Keys left without any person are dropped so that the index does not grow with removed keys.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Collection<K> keys = keyFunction.apply(person);
+        int slot = findSlot(person, keys);
+        if (slot < 0) {
+            return;
+        }
+        for (K key : keys) {
+            Postings persons = postings.get(key);
+            if (persons == null) {
+                continue;
+            }
+            persons.delete(slot);
+            if (persons.size == 0) {
+                postings.remove(key);
+            }
+        }
+        slots[slot] = null;
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlotCount * 2);
+        }
+        freeSlots[freeSlotCount++] = slot;
+    }
+
+    /**
+     * Removes all persons from this index.
+     */
+    public void clear() {
+        postings.clear();
+        slots = new Person[INITIAL_CAPACITY];
+        slotCount = 0;
+        freeSlots = new int[INITIAL_CAPACITY];
+        freeSlotCount = 0;
+    }
+
+    /**
+     * Returns the number of persons indexed under {@code key}.
+     */
+    public int count(K key) {
+        requireNonNull(key);
+        Postings persons = postings.get(key);
+        return persons == null ? 0 : persons.size;
+    }
+
+    /**
+     * Returns the persons indexed under every one of {@code keys}, in a set that compares them by identity.
+     * The arrays of the keys are merged from the smallest one up.
+     */
+    public Set<Person> getHavingAll(Collection<K> keys) {
+        requireNonNull(keys);
+        Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (keys.isEmpty()) {
+            return persons;
+        }
+        List<Postings> keyPostings = keys.stream()
+                .map(key -> postings.getOrDefault(key, Postings.EMPTY))
+                .sorted(Comparator.comparingInt(keyPosting -> keyPosting.size))
+                .collect(Collectors.toList());
+
+        int[] common = Arrays.copyOf(keyPostings.get(0).slots, keyPostings.get(0).size);
+        int commonCount = common.length;
+        for (int i = 1; i < keyPostings.size() && commonCount > 0; i++) {
+            commonCount = keyPostings.get(i).retainIn(common, commonCount);
+        }
+        for (int i = 0; i < commonCount; i++) {
+            persons.add(slots[common[i]]);
+        }
+        return persons;
+    }
+
+    private int takeSlot(Person person) {
+        int slot;
+        if (freeSlotCount > 0) {
+            slot = freeSlots[--freeSlotCount];
+        } else {
+            if (slotCount == slots.length) {
+                slots = Arrays.copyOf(slots, slotCount * 2);
+            }
+            slot = slotCount++;
+        }
+        slots[slot] = person;
+        return slot;
+    }
+
+    /**
+     * Returns the slot of {@code person}, which has {@code keys}, or -1 if it is not indexed.
+     */
+    private int findSlot(Person person, Collection<K> keys) {
+        Postings smallest = null;
+        for (K key : keys) {
+            Postings persons = postings.get(key);
+            if (persons == null) {
+                return -1;
+            }
+            if (smallest == null || persons.size < smallest.size) {
+                smallest = persons;
+            }
+        }
+        if (smallest == null) {
+            return -1;
+        }
+        for (int i = 0; i < smallest.size; i++) {
+            if (slots[smallest.slots[i]] == person) {
+                return smallest.slots[i];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The slots of the persons under a key, in ascending order, in an array that may have room to spare.
+     */
+    private static class Postings {
+        private static final Postings EMPTY = new Postings();
+
+        private int[] slots = new int[INITIAL_CAPACITY];
+        private int size;
+
+        void insert(int slot) {
+            int position = Arrays.binarySearch(slots, 0, size, slot);
+            if (position >= 0) {
+                return;
+            }
+            position = -(position + 1);
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            System.arraycopy(slots, position, slots, position + 1, size - position);
+            slots[position] = slot;
+            size++;
+        }
+
+        void delete(int slot) {
+            int position = Arrays.binarySearch(slots, 0, size, slot);
+            if (position < 0) {
+                return;
+            }
+            System.arraycopy(slots, position + 1, slots, position, size - position - 1);
+            size--;
+        }
+
+        /**
+         * Keeps only the first {@code count} slots of the sorted {@code common} that are also in these postings,
+         * at the front of it, and returns how many are kept.
+         */
+        int retainIn(int[] common, int count) {
+            int kept = 0;
+            int i = 0;
+            for (int c = 0; c < count && i < size; c++) {
+                while (i < size && slots[i] < common[c]) {
+                    i++;
+                }
+                if (i < size && slots[i] == common[c]) {
+                    common[kept++] = common[c];
+                }
+            }
+            return kept;
+        }
+    }
+
+}
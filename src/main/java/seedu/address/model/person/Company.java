@@ -3,6 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * Represents a Person's company in the contact book.
  * Guarantees: immutable; is valid as declared in {@link #isValidCompany(String)}
@@ -21,6 +26,9 @@ public class Company {
 
     public final String value;
 
+    /** Distinct lower-cased words of {@code value}, computed once for company searches. */
+    private final List<String> tokens;
+
     /**
      * Constructs a {@code Company}.
      *
@@ -30,6 +38,7 @@ public class Company {
         requireNonNull(company);
         checkArgument(isValidCompany(company), MESSAGE_CONSTRAINTS);
         value = company;
+        tokens = Collections.unmodifiableList(tokenize(company));
     }
 
     /**
@@ -42,6 +51,24 @@ public class Company {
         return withinLength && isMatch;
     }
 
+    /**
+     * Returns the distinct words of this company, lower-cased.
+     * Two companies share a word exactly when {@code find c/} matches one with a word of the other.
+     */
+    public List<String> getTokens() {
+        return tokens;
+    }
+
+    /**
+     * Splits {@code text} into its distinct whitespace-separated words, lower-cased.
+     */
+    public static List<String> tokenize(String text) {
+        requireNonNull(text);
+        return Arrays.stream(text.toLowerCase().split("\\s+"))
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
     @Override
     public String toString() {
         return value;
@@ -24,11 +24,25 @@ public class Detail {
      * @param detail A valid detail.
      */
     public Detail(String detail) {
+        this(detail, true);
+    }
+
+    private Detail(String detail, boolean shouldValidate) {
         requireNonNull(detail);
-        checkArgument(isValidDetail(detail), MESSAGE_CONSTRAINTS);
+        if (shouldValidate) {
+            checkArgument(isValidDetail(detail), MESSAGE_CONSTRAINTS);
+        }
         value = detail;
     }
 
+    /**
+     * Returns a {@code Detail} holding {@code detail}, the value of an existing {@code Detail}, without validating it
+     * again. For recreating details from values kept in a more compact form.
+     */
+    public static Detail ofValidated(String detail) {
+        return new Detail(detail, false);
+    }
+
     /**
      * Returns true if a given string is a valid detail value.
      */
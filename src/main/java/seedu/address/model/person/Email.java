@@ -10,6 +10,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 public class Email {
 
     public static final int MAX_LENGTH = 64;
+    /** Email given to contacts added without one. It may be shared by any number of contacts. */
+    public static final String PLACEHOLDER_EMAIL = "unknown@example.com";
     private static final String SPECIAL_CHARACTERS = "+_.-";
     public static final String MESSAGE_CONSTRAINTS = "Emails should be of the format local-part@domain "
             + "and adhere to the following constraints:\n"
@@ -40,11 +42,25 @@ public class Email {
      * @param email A valid email address.
      */
     public Email(String email) {
+        this(email, true);
+    }
+
+    private Email(String email, boolean shouldValidate) {
         requireNonNull(email);
-        checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+        if (shouldValidate) {
+            checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+        }
         value = email.toLowerCase();
     }
 
+    /**
+     * Returns an {@code Email} holding {@code email}, the value of an existing {@code Email}, without validating it
+     * again. For recreating emails from values kept in a more compact form.
+     */
+    public static Email ofValidated(String email) {
+        return new Email(email, false);
+    }
+
     /**
      * Returns if a given string is a valid email.
      */
@@ -55,6 +71,13 @@ public class Email {
         return withinLength && isMatch;
     }
 
+    /**
+     * Returns true if this email is the placeholder given to contacts without an email.
+     */
+    public boolean isPlaceholder() {
+        return PLACEHOLDER_EMAIL.equals(value);
+    }
+
     @Override
     public String toString() {
         return value;
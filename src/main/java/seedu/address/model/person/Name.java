@@ -3,6 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the contact book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -21,18 +26,40 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} .\\-]*";
 
+    /** Length of the substrings returned by {@link #getTrigrams()}. */
+    public static final int TRIGRAM_LENGTH = 3;
+
     public final String fullName;
 
+    /** Case-folded {@code fullName}, computed once for case-insensitive comparisons and searches. */
+    private final String foldedName;
+
     /**
      * Constructs a {@code Name}.
      *
      * @param name A valid name.
      */
     public Name(String name) {
+        this(name, true);
+    }
+
+    private Name(String name, boolean shouldValidate) {
         requireNonNull(name);
-        String normalized = name.trim().replaceAll("\\s+", " ");
-        checkArgument(isValidName(normalized), MESSAGE_CONSTRAINTS);
+        String normalized = name;
+        if (shouldValidate) {
+            normalized = name.trim().replaceAll("\\s+", " ");
+            checkArgument(isValidName(normalized), MESSAGE_CONSTRAINTS);
+        }
         fullName = normalized;
+        foldedName = StringUtil.foldCase(normalized);
+    }
+
+    /**
+     * Returns a {@code Name} holding {@code name}, the value of an existing {@code Name}, without validating it
+     * again. For recreating names from values kept in a more compact form.
+     */
+    public static Name ofValidated(String name) {
+        return new Name(name, false);
     }
 
     /**
@@ -45,6 +72,39 @@ public class Name {
         return withinLength && isMatch;
     }
 
+    /**
+     * Returns the case-folded form of this name.
+     * Two names are equal ignoring case if and only if their folded forms are equal.
+     * As names only contain ASCII characters, this is also the lower-cased form of the name.
+     */
+    public String getFoldedName() {
+        return foldedName;
+    }
+
+    /**
+     * Returns the distinct lower-cased substrings of length {@link #TRIGRAM_LENGTH} of this name.
+     * A name contains a substring (ignoring case) only if it has every trigram of that substring.
+     */
+    public Set<String> getTrigrams() {
+        return trigramsOfLowerCase(foldedName);
+    }
+
+    /**
+     * Returns the distinct substrings of length {@link #TRIGRAM_LENGTH} of {@code text}, lower-cased.
+     * Returns an empty set if {@code text} is shorter than {@link #TRIGRAM_LENGTH}.
+     */
+    public static Set<String> trigrams(String text) {
+        requireNonNull(text);
+        return trigramsOfLowerCase(text.toLowerCase());
+    }
+
+    private static Set<String> trigramsOfLowerCase(String lowerText) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= lowerText.length(); i++) {
+            trigrams.add(lowerText.substring(i, i + TRIGRAM_LENGTH));
+        }
+        return trigrams;
+    }
 
     @Override
     public String toString() {
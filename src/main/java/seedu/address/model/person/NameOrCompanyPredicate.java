@@ -1,12 +1,10 @@
 package seedu.address.model.person;
 
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
-
 /**
  * Tests that a {@code Person}'s name or company contains the given keyword(s).
  * Name and company both support partial (substring) search, case-insensitive.
@@ -14,6 +12,7 @@ import seedu.address.commons.util.StringUtil;
 public class NameOrCompanyPredicate implements Predicate<Person> {
     private final Optional<String> nameKeyword;
     private final Optional<String> companyKeyword;
+    private final List<String> companyTokens;
 
     /**
      * Constructs a {@code NameOrCompanyPredicate} using the provided optional keywords
@@ -34,26 +33,33 @@ public class NameOrCompanyPredicate implements Predicate<Person> {
     public NameOrCompanyPredicate(Optional<String> nameKeyword, Optional<String> companyKeyword) {
         this.nameKeyword = nameKeyword.map(String::toLowerCase);
         this.companyKeyword = companyKeyword.map(String::toLowerCase);
+        this.companyTokens = this.companyKeyword.map(Company::tokenize).orElse(Collections.emptyList());
+    }
+
+    public Optional<String> getNameKeyword() {
+        return nameKeyword;
+    }
+
+    public Optional<String> getCompanyKeyword() {
+        return companyKeyword;
+    }
+
+    /**
+     * Returns the words of the company keyword, as matched against {@link Company#getTokens()},
+     * or an empty list if there is no company keyword.
+     */
+    public List<String> getCompanyTokens() {
+        return companyTokens;
     }
 
     @Override
     public boolean test(Person person) {
-        String name = person.getName().fullName.toLowerCase();
-        String company = person.getCompany().value.toLowerCase();
+        String name = person.getName().getFoldedName();
 
-        boolean nameMatch = nameKeyword.map(k -> StringUtil.containsIgnoreCase(name, k)).orElse(false);
+        boolean nameMatch = nameKeyword.map(name::contains).orElse(false);
         // Company keyword search — exact word matching (case-insensitive)
-        boolean companyMatch = companyKeyword.map(keyword -> {
-            // Split user input into words
-            String[] keywords = keyword.toLowerCase().split("\\s+");
-
-            // Split the person's company field into words
-            List<String> companyWords = Arrays.asList(company.toLowerCase().split("\\s+"));
-
-            // Check if any user keyword matches any company word
-            return Arrays.stream(keywords)
-                    .anyMatch(k -> companyWords.stream().anyMatch(w -> w.equals(k)));
-        }).orElse(false);
+        boolean companyMatch = companyKeyword.isPresent()
+                && companyTokens.stream().anyMatch(person.getCompany().getTokens()::contains);
 
         // if both prefix exist, both must match
         if (nameKeyword.isPresent() && companyKeyword.isPresent()) {
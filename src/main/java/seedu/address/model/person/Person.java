@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
@@ -9,13 +10,20 @@ import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagDictionary;
 
 /**
  * Represents a Person in the contact book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * The tags are held as a set, which keeps each tag's spelling and is what {@link #getTags()} returns, since
+ * tag ids are only given out by the dictionary of a contact book and a person may be in several contact books.
+ * The bitset of the tags over such a dictionary is derived from the set when the person is first tested against it.
  */
 public class Person {
 
+    private static final Set<Tag> NO_TAGS = Collections.unmodifiableSet(Collections.emptySet());
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -24,19 +32,46 @@ public class Person {
     // Data fields
     private final Company company;
     private final Detail detail;
-    private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> tags;
+
+    // Derived fields, computed once as all fields above are immutable
+    private final String identityKey;
+    private final String tagSortKey;
+    private final int hash;
+
+    /**
+     * The tags as a bitset over the dictionary of the contact book that last tested them, computed on first use.
+     * The holder is immutable and published through a volatile field, so every thread sees either null or a
+     * whole holder, and a holder replaced concurrently is only ever recomputed.
+     */
+    private volatile TagBits tagBits;
 
     /**
      * Every field must be present and not null.
      */
     public Person(Name name, Phone phone, Email email, Company company, Detail detail, Set<Tag> tags) {
-        requireAllNonNull(name, phone, email, company, detail, tags);
+        this(name, phone, email, company, detail, copyOf(tags), null);
+    }
+
+    /**
+     * Creates a person holding {@code tags}, an unmodifiable set that no one can change, as it is.
+     * {@code tagSortKey} is computed from the tags if null.
+     */
+    private Person(Name name, Phone phone, Email email, Company company, Detail detail, Set<Tag> tags,
+            String tagSortKey) {
+        requireAllNonNull(name, phone, email, company, detail);
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.company = company;
         this.detail = detail;
-        this.tags.addAll(tags);
+        this.tags = tags;
+        // '/' is not allowed in names, so the name and phone parts cannot run into each other
+        this.identityKey = name.getFoldedName() + "/" + phone.value;
+        this.tagSortKey = tagSortKey != null
+                ? tagSortKey
+                : tags.stream().map(Tag::getFoldedName).min(String::compareTo).orElse("");
+        this.hash = Objects.hash(name, phone, email, company, detail, tags);
     }
 
     /**
@@ -46,6 +81,22 @@ public class Person {
         this(name, phone, email, company, new Detail(""), tags);
     }
 
+    /**
+     * Returns a person with the given fields and the same tags as {@code tagSource}, sharing its tag set
+     * instead of copying it, so that many persons with the same tags can be created without a tag set each.
+     */
+    public static Person withTagsOf(Person tagSource, Name name, Phone phone, Email email, Company company,
+            Detail detail) {
+        requireNonNull(tagSource);
+        return new Person(name, phone, email, company, detail, tagSource.tags, tagSource.tagSortKey);
+    }
+
+    private static Set<Tag> copyOf(Set<Tag> tags) {
+        requireNonNull(tags);
+        // tags are equal ignoring case, so of several tags differing only in case the first one is kept
+        return tags.isEmpty() ? NO_TAGS : Collections.unmodifiableSet(new HashSet<>(tags));
+    }
+
     public Name getName() {
         return name;
     }
@@ -71,12 +122,39 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
+    }
+
+    /**
+     * Returns true if this person has one of the tags in {@code tagMask}, a mask obtained from
+     * {@link TagDictionary#toBits(java.util.Collection)} of {@code dictionary}.
+     * The bitset of this person's tags over {@code dictionary} is computed once and reused by later tests.
+     */
+    public boolean hasAnyTag(TagDictionary dictionary, long[] tagMask) {
+        requireAllNonNull(dictionary, tagMask);
+        if (tags.isEmpty()) {
+            return false;
+        }
+        TagBits bits = tagBits;
+        if (bits == null || bits.dictionary != dictionary) {
+            bits = new TagBits(dictionary, dictionary.toBits(tags));
+            tagBits = bits;
+        }
+        return TagDictionary.intersects(bits.bits, tagMask);
+    }
+
+    /**
+     * Returns the smallest case-folded tag name of this person, or an empty string if the person has no tags.
+     * Used to order persons by tag.
+     */
+    public String getTagSortKey() {
+        return tagSortKey;
     }
 
     /**
      * Returns true if both persons are considered the same based on name (case-insensitive, normalized spacing)
      * and phone number. Used for duplicate detection.
+     * Names are normalized on construction, so only their folded forms need to be compared.
      */
     public boolean isSamePerson(Person otherPerson) {
         if (otherPerson == this) {
@@ -86,18 +164,17 @@ public class Person {
             return false;
         }
 
-        String thisName = normalizeName(this.name.fullName);
-        String otherName = normalizeName(otherPerson.name.fullName);
-
-        return thisName.equalsIgnoreCase(otherName)
+        return this.name.getFoldedName().equals(otherPerson.name.getFoldedName())
                 && this.phone.equals(otherPerson.phone);
     }
 
     /**
-     * Normalize a name string by trimming and collapsing multiple spaces into one.
+     * Returns the key identifying this person for duplicate detection.
+     * Two persons have equal identity keys if and only if they are the same person
+     * as defined by {@link #isSamePerson(Person)}, so the key can be used to look up persons in hash-based indexes.
      */
-    private static String normalizeName(String name) {
-        return name.trim().replaceAll("\\s+", " ");
+    public String getIdentityKey() {
+        return identityKey;
     }
 
     /**
@@ -116,7 +193,8 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
-        return name.equals(otherPerson.name)
+        return hash == otherPerson.hash
+                && name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
                 && email.equals(otherPerson.email)
                 && company.equals(otherPerson.company)
@@ -126,8 +204,7 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, company, detail, tags);
+        return hash;
     }
 
     @Override
@@ -138,8 +215,21 @@ public class Person {
                 .add("email", email)
                 .add("company", company)
                 .add("detail", detail)
-                .add("tags", tags)
+                .add("tags", getTags())
                 .toString();
     }
 
+    /**
+     * A bitset of tag ids together with the dictionary giving the ids.
+     */
+    private static final class TagBits {
+        private final TagDictionary dictionary;
+        private final long[] bits;
+
+        TagBits(TagDictionary dictionary, long[] bits) {
+            this.dictionary = dictionary;
+            this.bits = bits;
+        }
+    }
+
 }
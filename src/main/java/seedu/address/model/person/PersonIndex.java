@@ -0,0 +1,106 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A secondary index that maps keys derived from a {@code Person} to the persons having that key.
+ * The keys of a person are given by a key function, which may return any number of keys (e.g. one per tag).
+ *
+ * The index does not observe the persons list by itself; its owner must call {@link #add(Person)} and
+ * {@link #remove(Person)} whenever a person is added to or removed from the indexed list.
+ *
+ * @param <K> the type of the keys in this index
+ */
+public class PersonIndex<K> {
+
+    private final Function<Person, ? extends Collection<K>> keyFunction;
+    private final Map<K, Set<Person>> postings = new HashMap<>();
+
+    /**
+     * Creates an empty {@code PersonIndex} that indexes each person by the keys given by {@code keyFunction}.
+     */
+    public PersonIndex(Function<Person, ? extends Collection<K>> keyFunction) {
+        requireNonNull(keyFunction);
+        this.keyFunction = keyFunction;
+    }
+
+    /**
+     * Adds {@code person} under each of its keys.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (K key : keyFunction.apply(person)) {
+            postings.computeIfAbsent(key, unused -> new HashSet<>()).add(person);
+        }
+    }
+
+    /**
+     * Adds every person in {@code persons} under each of their keys.
+     */
+    public void addAll(Iterable<Person> persons) {
+        requireNonNull(persons);
+        for (Person person : persons) {
+            add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from under each of its keys.
+     * Keys left without any person are dropped so that the index does not grow with removed keys.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (K key : keyFunction.apply(person)) {
+            Set<Person> persons = postings.get(key);
+            if (persons == null) {
+                continue;
+            }
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Removes all persons from this index.
+     */
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons indexed under {@code key}, or an empty set if there are none.
+     */
+    public Set<Person> get(K key) {
+        requireNonNull(key);
+        Set<Person> persons = postings.get(key);
+        return persons == null ? Collections.emptySet() : Collections.unmodifiableSet(persons);
+    }
+
+    /**
+     * Returns the number of persons indexed under {@code key}.
+     */
+    public int count(K key) {
+        requireNonNull(key);
+        Set<Person> persons = postings.get(key);
+        return persons == null ? 0 : persons.size();
+    }
+
+    /**
+     * Returns true if at least one person is indexed under {@code key}.
+     */
+    public boolean containsKey(K key) {
+        requireNonNull(key);
+        return postings.containsKey(key);
+    }
+
+}
@@ -22,11 +22,25 @@ public class Phone {
      * @param phone A valid phone number.
      */
     public Phone(String phone) {
+        this(phone, true);
+    }
+
+    private Phone(String phone, boolean shouldValidate) {
         requireNonNull(phone);
-        checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        if (shouldValidate) {
+            checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        }
         value = phone;
     }
 
+    /**
+     * Returns a {@code Phone} holding {@code phone}, the value of an existing {@code Phone}, without validating it
+     * again. For recreating phones from values kept in a more compact form.
+     */
+    public static Phone ofValidated(String phone) {
+        return new Phone(phone, false);
+    }
+
     /**
      * Returns true if a given string is a valid phone number.
      */
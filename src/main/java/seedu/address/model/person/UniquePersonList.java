@@ -3,14 +3,20 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Set;
+import java.util.stream.IntStream;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.PersistentList;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -21,20 +27,30 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * The identity keys of all persons in the list are also kept in a hash set, so that checking whether an equivalent
+ * person already exists takes constant time instead of a scan over the whole list.
+ *
+ * The persons are held in a {@link PersistentList}: every change makes a new version of it in O(log n) time,
+ * sharing most of its structure with the version before, and the observable list is a view of the current version.
+ * A version is never changed once made, so handing one out as a snapshot of the list costs nothing.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Person> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    /** The current version of the list. Replaced, never changed, by every change to the list. */
+    private PersistentList<Person> version = PersistentList.empty();
+    private final VersionView internalUnmodifiableList = new VersionView();
+
+    /** Identity keys of the persons in {@code internalList}. Must be updated on every change to the list. */
+    private final Set<String> identityKeys = new HashSet<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityKeys.contains(toCheck.getIdentityKey());
     }
 
     /**
@@ -42,60 +58,124 @@ public class UniquePersonList implements Iterable<Person> {
      * The person must not already exist in the list.
      */
     public void add(Person toAdd) {
+        add(version.size(), toAdd);
+    }
+
+    /**
+     * Inserts a contact into the list at position {@code index}, shifting the persons from there on.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        version = version.plus(index, toAdd);
+        identityKeys.add(toAdd.getIdentityKey());
+        internalUnmodifiableList.fireAdded(index);
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     *
+     * @return the position of {@code target} in the list.
      */
-    public void setPerson(Person target, Person editedPerson) {
+    public int setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = version.indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        set(index, editedPerson);
+        return index;
+    }
+
+    /**
+     * Replaces the person at position {@code index} with {@code editedPerson}.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     *
+     * @return the person replaced.
+     */
+    public Person set(int index, Person editedPerson) {
+        requireNonNull(editedPerson);
+        Person replaced = version.get(index);
+        if (!replaced.isSamePerson(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        version = version.with(index, editedPerson);
+        identityKeys.remove(replaced.getIdentityKey());
+        identityKeys.add(editedPerson.getIdentityKey());
+        internalUnmodifiableList.fireReplaced(index, replaced);
+        return replaced;
     }
 
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
+     *
+     * @return the position the person was removed from.
      */
-    public void remove(Person toRemove) {
+    public int remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = version.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        remove(index);
+        return index;
+    }
+
+    /**
+     * Removes the person at position {@code index}, shifting the persons after it.
+     *
+     * @return the person removed.
+     */
+    public Person remove(int index) {
+        Person removed = version.get(index);
+        version = version.minus(index);
+        identityKeys.remove(removed.getIdentityKey());
+        internalUnmodifiableList.fireRemoved(index, removed);
+        return removed;
     }
 
+    /**
+     * Replaces the contents of this list with those of {@code replacement}, sharing its current version.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        PersistentList<Person> replaced = version;
+        version = replacement.version;
+        identityKeys.clear();
+        identityKeys.addAll(replacement.identityKeys);
+        internalUnmodifiableList.fireAllReplaced(replaced);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * Uniqueness is checked by hashing identity keys in a single pass, and listeners see a single change.
+     *
+     * @throws DuplicatePersonException naming the first person that duplicates an earlier one.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Set<String> newIdentityKeys = new HashSet<>();
+        for (Person person : persons) {
+            if (!newIdentityKeys.add(person.getIdentityKey())) {
+                throw new DuplicatePersonException(person);
+            }
         }
 
-        internalList.setAll(persons);
+        PersistentList<Person> replaced = version;
+        version = PersistentList.of(persons);
+        identityKeys.clear();
+        identityKeys.addAll(newIdentityKeys);
+        internalUnmodifiableList.fireAllReplaced(replaced);
     }
 
     /**
@@ -105,9 +185,17 @@ public class UniquePersonList implements Iterable<Person> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the current version of the list, which later changes to this list leave as it is.
+     */
+    public PersistentList<Person> asPersistentList() {
+        return version;
+    }
+
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        // versions are immutable, so Iterator#remove cannot bypass the identity keys
+        return version.iterator();
     }
 
     @Override
@@ -122,39 +210,134 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         UniquePersonList otherUniquePersonList = (UniquePersonList) other;
-        return internalList.equals(otherUniquePersonList.internalList);
+        return version.equals(otherUniquePersonList.version);
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return version.hashCode();
     }
 
     @Override
     public String toString() {
-        return internalList.toString();
+        return version.toString();
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Sorts the person list based on the comparator.
+     * Sorting only reorders the persons, so the identity keys are unaffected.
+     * @param comparator Comparator to sort the person list by.
+     * @return the order the persons were sorted in: the person at position {@code order[i]} moved to position
+     *     {@code i}, as taken by {@link #reorder(int[])}.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    public int[] sort(Comparator<Person> comparator) {
+        requireNonNull(comparator);
+        Person[] persons = version.toArray(new Person[0]);
+        int[] order = IntStream.range(0, persons.length)
+                .boxed()
+                .sorted(Comparator.comparing(position -> persons[position], comparator))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        reorder(order, persons);
+        return order;
+    }
+
+    /**
+     * Rearranges the person list so that the person at position {@code order[i]} moves to position {@code i}.
+     * {@code order} must be a permutation of the positions in the list.
+     */
+    public void reorder(int[] order) {
+        requireNonNull(order);
+        if (order.length != version.size()) {
+            throw new IllegalArgumentException("Order of " + order.length + " positions given for "
+                    + version.size() + " persons");
+        }
+        boolean[] isMoved = new boolean[order.length];
+        for (int position : order) {
+            if (position < 0 || position >= order.length || isMoved[position]) {
+                throw new IllegalArgumentException("Not a permutation of the person positions");
             }
+            isMoved[position] = true;
         }
-        return true;
+        reorder(order, version.toArray(new Person[0]));
     }
 
     /**
-     * Sorts the person list based on the comparator.
-     * @param comparator Comparator to sort the person list by.
+     * Rearranges {@code persons}, the persons of the list in order, by the valid permutation {@code order}.
      */
-    public void sort(Comparator<Person> comparator) {
-        requireNonNull(comparator);
-        internalList.sort(comparator);
+    private void reorder(int[] order, Person[] persons) {
+        Person[] reordered = new Person[order.length];
+        int[] permutation = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            reordered[i] = persons[order[i]];
+            permutation[order[i]] = i;
+        }
+        version = PersistentList.of(Arrays.asList(reordered));
+        internalUnmodifiableList.firePermuted(permutation);
+    }
+
+    /**
+     * The observable view of the current version of the list, which tells its listeners of every change to it.
+     * The view cannot be modified through, as {@code ObservableListBase} supports no modification by itself.
+     */
+    private final class VersionView extends ObservableListBase<Person> {
+
+        @Override
+        public Person get(int index) {
+            return version.get(index);
+        }
+
+        @Override
+        public int size() {
+            return version.size();
+        }
+
+        @Override
+        public Iterator<Person> iterator() {
+            return version.iterator();
+        }
+
+        @Override
+        public ListIterator<Person> listIterator(int index) {
+            return version.listIterator(index);
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            return version.indexOf(o);
+        }
+
+        void fireAdded(int index) {
+            beginChange();
+            nextAdd(index, index + 1);
+            endChange();
+        }
+
+        void fireReplaced(int index, Person replaced) {
+            beginChange();
+            nextSet(index, replaced);
+            endChange();
+        }
+
+        void fireRemoved(int index, Person removed) {
+            beginChange();
+            nextRemove(index, removed);
+            endChange();
+        }
+
+        void fireAllReplaced(List<Person> replaced) {
+            beginChange();
+            nextReplace(0, size(), replaced);
+            endChange();
+        }
+
+        void firePermuted(int[] permutation) {
+            if (permutation.length == 0) {
+                return;
+            }
+            beginChange();
+            nextPermutation(0, size(), permutation);
+            endChange();
+        }
     }
 }
@@ -1,5 +1,7 @@
 package seedu.address.model.person.exceptions;
 
+import seedu.address.model.person.Person;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
@@ -8,4 +10,12 @@ public class DuplicatePersonException extends RuntimeException {
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
     }
+
+    /**
+     * Creates an exception naming the {@code duplicatePerson} found, so that it can be reported to the user.
+     */
+    public DuplicatePersonException(Person duplicatePerson) {
+        super("Operation would result in duplicate persons: " + duplicatePerson.getName()
+                + " (" + duplicatePerson.getPhone() + ")");
+    }
 }
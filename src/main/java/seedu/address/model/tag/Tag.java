@@ -3,6 +3,8 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Tag in the contact book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -16,6 +18,10 @@ public class Tag {
 
     public final String tagName;
 
+    /** Case-folded {@code tagName} and its hash code, computed once as tags are compared ignoring case. */
+    private final String foldedName;
+    private final int hash;
+
     /**
      * Constructs a {@code Tag}.
      *
@@ -25,6 +31,8 @@ public class Tag {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         this.tagName = tagName;
+        this.foldedName = StringUtil.foldCase(tagName);
+        this.hash = foldedName.hashCode();
     }
 
     /**
@@ -37,6 +45,14 @@ public class Tag {
         return bool1 && bool2;
     }
 
+    /**
+     * Returns the case-folded form of this tag's name.
+     * Two tags are equal if and only if their folded names are equal.
+     */
+    public String getFoldedName() {
+        return foldedName;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -49,12 +65,12 @@ public class Tag {
         }
 
         Tag otherTag = (Tag) other;
-        return tagName.equalsIgnoreCase(otherTag.tagName);
+        return foldedName.equals(otherTag.foldedName);
     }
 
     @Override
     public int hashCode() {
-        return tagName.toLowerCase().hashCode();
+        return hash;
     }
 
     /**
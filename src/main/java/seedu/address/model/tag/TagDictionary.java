@@ -0,0 +1,76 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A dictionary of tags, which gives each distinct case-folded tag name a small integer id
+ * so that a set of tags can be held as a bitset of ids and tested against other tags with a bitmask AND.
+ *
+ * Tags differing only in case share an id. Ids are never reused, so a bitset stays valid for the lifetime
+ * of the dictionary. Each contact book owns its own dictionary, which is released together with the book.
+ * Looking up a known tag takes no lock, so the dictionary can be used from several threads at once.
+ */
+public class TagDictionary {
+
+    /** The bitset of an empty set of tags. */
+    public static final long[] EMPTY = new long[0];
+
+    private final Map<String, Integer> idsByFoldedName = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    /**
+     * Returns the bitset of the ids of {@code tags}, giving new tags an id.
+     * A mask of tags to look for is built in the same way: a person has one of those tags exactly when
+     * its bitset {@link #intersects(long[], long[]) intersects} the mask.
+     */
+    public long[] toBits(Collection<Tag> tags) {
+        requireNonNull(tags);
+        long[] bits = EMPTY;
+        for (Tag tag : tags) {
+            bits = setBit(bits, idOf(tag));
+        }
+        return bits;
+    }
+
+    /**
+     * Returns the id of {@code tag}, giving it a new id if no tag with the same case-folded name has one.
+     */
+    public int idOf(Tag tag) {
+        requireNonNull(tag);
+        return idsByFoldedName.computeIfAbsent(tag.getFoldedName(), unused -> nextId.getAndIncrement());
+    }
+
+    /**
+     * Returns the number of distinct tags in the dictionary.
+     */
+    public int size() {
+        return idsByFoldedName.size();
+    }
+
+    /**
+     * Returns true if {@code bits} and {@code mask} have an id in common.
+     */
+    public static boolean intersects(long[] bits, long[] mask) {
+        int words = Math.min(bits.length, mask.length);
+        for (int word = 0; word < words; word++) {
+            if ((bits[word] & mask[word]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long[] setBit(long[] bits, int id) {
+        int word = id / Long.SIZE;
+        long[] result = word < bits.length ? bits : Arrays.copyOf(bits, word + 1);
+        result[word] |= 1L << (id % Long.SIZE);
+        return result;
+    }
+
+}
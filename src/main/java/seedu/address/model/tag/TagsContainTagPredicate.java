@@ -1,12 +1,16 @@
 package seedu.address.model.tag;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.model.person.Person;
 
 /**
  * Tests that a {@code Person}'s {@code Tags} matches any of the tags given.
+ * Filtering a contact book should look the persons up in the model's tag index, or use
+ * {@link seedu.address.model.Model#getAnyTagFilter(java.util.Collection)}, which tests the same condition with
+ * a bitmask AND over the contact book's tag dictionary.
  */
 public class TagsContainTagPredicate implements Predicate<Person> {
     private final List<Tag> tags;
@@ -15,10 +19,14 @@ public class TagsContainTagPredicate implements Predicate<Person> {
         this.tags = tags;
     }
 
+    public List<Tag> getTags() {
+        return tags;
+    }
+
     @Override
     public boolean test(Person person) {
-        return tags.stream()
-                .anyMatch(tag -> person.getTags().contains(tag));
+        Set<Tag> personTags = person.getTags();
+        return tags.stream().anyMatch(personTags::contains);
     }
 
     @Override
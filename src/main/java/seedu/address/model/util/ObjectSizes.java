@@ -0,0 +1,30 @@
+package seedu.address.model.util;
+
+/**
+ * Rough sizes of objects on a 64-bit JVM with compressed references, shared by the estimates of the heap
+ * held on to by pooled values and by the undo history.
+ */
+public class ObjectSizes {
+
+    public static final long OBJECT_HEADER_BYTES = 12;
+    public static final long REFERENCE_BYTES = 4;
+    public static final long ARRAY_HEADER_BYTES = 16;
+
+    private ObjectSizes() {}
+
+    /**
+     * Returns {@code size} rounded up to the 8-byte alignment of objects on the heap.
+     */
+    public static long align(long size) {
+        return (size + 7) / 8 * 8;
+    }
+
+    /**
+     * Returns the size of {@code s} as a compact (one byte per character) string with its backing array.
+     */
+    public static long estimateSize(String s) {
+        return align(OBJECT_HEADER_BYTES + REFERENCE_BYTES + 2 * Integer.BYTES)
+                + align(ARRAY_HEADER_BYTES + s.length());
+    }
+
+}
@@ -0,0 +1,347 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable list whose versions share structure: every change returns a new list in O(log n) time,
+ * reusing all but O(log n) of the nodes of the list it was made from, and leaves that list as it was.
+ * Holding on to a version is therefore a free snapshot, which can be read safely from any thread.
+ *
+ * The elements are kept in a balanced (AVL) tree ordered by position, each node knowing the size of its subtree,
+ * so that reaching a position also takes O(log n) time.
+ *
+ * @param <E> the type of the elements, which must not be null
+ */
+public final class PersistentList<E> extends AbstractList<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of {@code elements}, in the given order, built in O(n) time.
+     */
+    public static <E> PersistentList<E> of(List<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements instanceof PersistentList) {
+            @SuppressWarnings("unchecked")
+            PersistentList<E> persistentList = (PersistentList<E>) elements;
+            return persistentList;
+        }
+        Object[] array = elements.toArray();
+        for (Object element : array) {
+            requireNonNull(element);
+        }
+        return array.length == 0 ? empty() : new PersistentList<>(build(array, 0, array.length));
+    }
+
+    @Override
+    public int size() {
+        return Node.size(root);
+    }
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = Node.size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.element;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns this list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<E> with(int index, E element) {
+        Objects.checkIndex(index, size());
+        requireNonNull(element);
+        return new PersistentList<>(with(root, index, element));
+    }
+
+    /**
+     * Returns this list with {@code element} added at the end.
+     */
+    public PersistentList<E> plus(E element) {
+        return plus(size(), element);
+    }
+
+    /**
+     * Returns this list with {@code element} inserted at {@code index}, shifting the elements from there on.
+     */
+    public PersistentList<E> plus(int index, E element) {
+        Objects.checkIndex(index, size() + 1);
+        requireNonNull(element);
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns this list with the element at {@code index} removed, shifting the elements after it.
+     */
+    public PersistentList<E> minus(int index) {
+        Objects.checkIndex(index, size());
+        Node<E> newRoot = remove(root, index);
+        return newRoot == null ? empty() : new PersistentList<>(newRoot);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Walks the tree in order, taking O(n) time to iterate over the whole list instead of O(n log n).
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Walks the tree in order from {@code index}, taking O(log n) time to start and O(1) amortized time for each
+     * following element, so that iterating forwards over the whole list takes O(n) time instead of O(n log n).
+     * Going backwards takes O(log n) time for each element. The iterator cannot change the list.
+     */
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        Objects.checkIndex(index, size() + 1);
+        return new TreeIterator(index);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        int index = 0;
+        for (E element : this) {
+            if (element.equals(o)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    //// tree operations, each returning a new tree and sharing the subtrees it did not change
+
+    private static <E> Node<E> build(Object[] elements, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        @SuppressWarnings("unchecked")
+        E element = (E) elements[middle];
+        return new Node<>(build(elements, from, middle), element, build(elements, middle + 1, to));
+    }
+
+    private static <E> Node<E> with(Node<E> node, int index, E element) {
+        int leftSize = Node.size(node.left);
+        if (index < leftSize) {
+            return new Node<>(with(node.left, index, element), node.element, node.right);
+        } else if (index == leftSize) {
+            return new Node<>(node.left, element, node.right);
+        } else {
+            return new Node<>(node.left, node.element, with(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(null, element, null);
+        }
+        int leftSize = Node.size(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, element), node.element, node.right);
+        } else {
+            return balance(node.left, node.element, insert(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = Node.size(node.left);
+        if (index < leftSize) {
+            return balance(remove(node.left, index), node.element, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.element, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            // the first element of the right subtree takes the place of the removed one
+            Node<E> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            return balance(node.left, successor.element, remove(node.right, 0));
+        }
+    }
+
+    /**
+     * Returns a tree of {@code left}, {@code element} and {@code right}, rotated back into balance if the heights
+     * of {@code left} and {@code right}, each balanced, differ by two.
+     */
+    private static <E> Node<E> balance(Node<E> left, E element, Node<E> right) {
+        int leftHeight = Node.height(left);
+        int rightHeight = Node.height(right);
+        if (leftHeight > rightHeight + 1) {
+            if (Node.height(left.left) >= Node.height(left.right)) {
+                return new Node<>(left.left, left.element, new Node<>(left.right, element, right));
+            }
+            return new Node<>(new Node<>(left.left, left.element, left.right.left), left.right.element,
+                    new Node<>(left.right.right, element, right));
+        } else if (rightHeight > leftHeight + 1) {
+            if (Node.height(right.right) >= Node.height(right.left)) {
+                return new Node<>(new Node<>(left, element, right.left), right.element, right.right);
+            }
+            return new Node<>(new Node<>(left, element, right.left.left), right.left.element,
+                    new Node<>(right.left.right, right.element, right.right));
+        }
+        return new Node<>(left, element, right);
+    }
+
+    /**
+     * An in-order walk of the tree, which keeps the path from the root to the next element, without the nodes
+     * whose element comes before it. The top of the path is the next element.
+     */
+    private final class TreeIterator implements ListIterator<E> {
+        private final Deque<Node<E>> path = new ArrayDeque<>();
+        private int nextIndex;
+
+        TreeIterator(int index) {
+            moveTo(index);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size();
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Node<E> node = path.pop();
+            pushLeftmostPath(node.right);
+            nextIndex++;
+            return node.element;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous() {
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            moveTo(nextIndex - 1);
+            return path.peek().element;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void set(E element) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(E element) {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Rebuilds the path so that the element at {@code index} is next.
+         */
+        private void moveTo(int index) {
+            path.clear();
+            nextIndex = index;
+            Node<E> node = root;
+            while (node != null) {
+                int leftSize = Node.size(node.left);
+                if (index <= leftSize) {
+                    path.push(node);
+                    node = node.left;
+                } else {
+                    index -= leftSize + 1;
+                    node = node.right;
+                }
+            }
+        }
+
+        private void pushLeftmostPath(Node<E> node) {
+            while (node != null) {
+                path.push(node);
+                node = node.left;
+            }
+        }
+    }
+
+    /**
+     * A node of the tree, never changed once made, so that it can be shared between any number of versions.
+     */
+    private static final class Node<E> {
+        private final Node<E> left;
+        private final E element;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(Node<E> left, E element, Node<E> right) {
+            this.left = left;
+            this.element = element;
+            this.right = right;
+            this.size = size(left) + 1 + size(right);
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+
+        static int size(Node<?> node) {
+            return node == null ? 0 : node.size;
+        }
+
+        static int height(Node<?> node) {
+            return node == null ? 0 : node.height;
+        }
+    }
+
+}
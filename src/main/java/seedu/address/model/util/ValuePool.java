@@ -0,0 +1,163 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * A canonicalizing pool that hands out a single shared instance for each distinct value,
+ * so that the many contacts sharing a value do not each hold their own copy.
+ *
+ * Values are keyed by the exact string they were created from, which must be the same string instance
+ * the value holds on to. The pool only refers weakly to its values, so a value that no contact uses any more
+ * can be garbage collected; its entry is removed by a later call.
+ *
+ * The pool takes no lock, so that persons converted on several threads at once do not wait for each other.
+ * Two threads creating the same new value at the same time may both create it, but only one is pooled and
+ * handed out to both.
+ *
+ * @param <V> the type of the pooled values, which must be immutable
+ */
+public class ValuePool<V> {
+
+    private final ConcurrentMap<String, KeyedReference<V>> pool = new ConcurrentHashMap<>();
+    private final ReferenceQueue<V> collectedValues = new ReferenceQueue<>();
+    private final Function<String, V> factory;
+    private final Function<V, String> keyFunction;
+    private final ToLongFunction<V> sizeEstimator;
+
+    private final LongAdder reuseCount = new LongAdder();
+    private final LongAdder savedBytes = new LongAdder();
+
+    /**
+     * Creates an empty pool.
+     *
+     * @param factory creates a new value from its key.
+     * @param keyFunction returns the key string held by a value.
+     * @param sizeEstimator estimates the heap retained by a value that is not already shared, in bytes.
+     */
+    public ValuePool(Function<String, V> factory, Function<V, String> keyFunction, ToLongFunction<V> sizeEstimator) {
+        requireNonNull(factory);
+        requireNonNull(keyFunction);
+        requireNonNull(sizeEstimator);
+        this.factory = factory;
+        this.keyFunction = keyFunction;
+        this.sizeEstimator = sizeEstimator;
+    }
+
+    /**
+     * Returns the shared value for {@code key}, creating it with the factory if there is none.
+     * Any exception thrown by the factory (e.g. for an invalid key) is passed on and nothing is pooled.
+     */
+    public V get(String key) {
+        requireNonNull(key);
+        V pooled = lookUp(key);
+        if (pooled != null) {
+            recordReuse(pooled);
+            return pooled;
+        }
+        return add(factory.apply(key));
+    }
+
+    /**
+     * Returns the shared value equal to {@code value}, pooling {@code value} itself if there is none.
+     */
+    public V intern(V value) {
+        requireNonNull(value);
+        V pooled = lookUp(keyFunction.apply(value));
+        if (pooled == value) {
+            return pooled;
+        }
+        if (pooled != null) {
+            recordReuse(pooled);
+            return pooled;
+        }
+        return add(value);
+    }
+
+    /**
+     * Returns the number of distinct values currently in the pool.
+     * Values that are no longer used may still be counted until they are garbage collected.
+     */
+    public int size() {
+        removeCollectedValues();
+        return pool.size();
+    }
+
+    /**
+     * Returns the number of times a shared value was handed out in place of a new one.
+     */
+    public long getReuseCount() {
+        return reuseCount.sum();
+    }
+
+    /**
+     * Returns an estimate of the heap, in bytes, not allocated thanks to shared values being handed out.
+     */
+    public long getSavedBytes() {
+        return savedBytes.sum();
+    }
+
+    private V lookUp(String key) {
+        KeyedReference<V> reference = pool.get(key);
+        return reference == null ? null : reference.get();
+    }
+
+    /**
+     * Pools {@code value}, unless another thread pooled an equal value first, and returns the pooled value.
+     */
+    private V add(V value) {
+        removeCollectedValues();
+        String key = keyFunction.apply(value);
+        KeyedReference<V> added = new KeyedReference<>(value, key, collectedValues);
+        while (true) {
+            KeyedReference<V> existing = pool.putIfAbsent(key, added);
+            if (existing == null) {
+                return value;
+            }
+            V pooled = existing.get();
+            if (pooled != null) {
+                recordReuse(pooled);
+                return pooled;
+            }
+            // the entry of a collected value: replace it, unless another thread did so first
+            if (pool.replace(key, existing, added)) {
+                return value;
+            }
+        }
+    }
+
+    private void removeCollectedValues() {
+        Reference<? extends V> collected;
+        while ((collected = collectedValues.poll()) != null) {
+            KeyedReference<?> reference = (KeyedReference<?>) collected;
+            pool.remove(reference.key, reference);
+        }
+    }
+
+    private void recordReuse(V pooled) {
+        reuseCount.increment();
+        savedBytes.add(sizeEstimator.applyAsLong(pooled));
+    }
+
+    /**
+     * A weak reference to a pooled value that remembers its key, so that its entry can be removed once
+     * the value has been garbage collected.
+     */
+    private static class KeyedReference<V> extends WeakReference<V> {
+        private final String key;
+
+        KeyedReference(V value, String key, ReferenceQueue<V> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+
+}
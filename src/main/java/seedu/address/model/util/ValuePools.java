@@ -0,0 +1,88 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.util.ObjectSizes.ARRAY_HEADER_BYTES;
+import static seedu.address.model.util.ObjectSizes.OBJECT_HEADER_BYTES;
+import static seedu.address.model.util.ObjectSizes.REFERENCE_BYTES;
+import static seedu.address.model.util.ObjectSizes.align;
+
+import seedu.address.model.person.Company;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Holds the application-wide pools of shared {@code Company} and {@code Tag} values.
+ * Large contact books repeat a few hundred companies and a few dozen tags across many contacts,
+ * so values created while parsing, loading or editing contacts should be obtained from here.
+ */
+public class ValuePools {
+
+    private static final ValuePool<Company> COMPANIES =
+            new ValuePool<>(Company::new, company -> company.value, ValuePools::estimateSize);
+    private static final ValuePool<Tag> TAGS =
+            new ValuePool<>(Tag::new, tag -> tag.tagName, ValuePools::estimateSize);
+
+    /**
+     * Returns the shared {@code Company} with the given value.
+     *
+     * @throws IllegalArgumentException if {@code company} is not a valid company.
+     */
+    public static Company company(String company) {
+        requireNonNull(company);
+        return COMPANIES.get(company);
+    }
+
+    /**
+     * Returns the shared {@code Company} equal to {@code company}.
+     */
+    public static Company company(Company company) {
+        requireNonNull(company);
+        return COMPANIES.intern(company);
+    }
+
+    /**
+     * Returns the shared {@code Tag} with exactly the given name.
+     * Tags differing only in case are kept apart so that each keeps the case it was entered with.
+     *
+     * @throws IllegalArgumentException if {@code tagName} is not a valid tag name.
+     */
+    public static Tag tag(String tagName) {
+        requireNonNull(tagName);
+        return TAGS.get(tagName);
+    }
+
+    /**
+     * Returns the shared {@code Tag} with exactly the same name as {@code tag}.
+     */
+    public static Tag tag(Tag tag) {
+        requireNonNull(tag);
+        return TAGS.intern(tag);
+    }
+
+    /**
+     * Returns a summary of how many shared values were handed out and the heap this saved.
+     */
+    public static String getSavingsReport() {
+        return String.format("Shared values: %d companies (%d reused), %d tags (%d reused), about %d KB saved",
+                COMPANIES.size(), COMPANIES.getReuseCount(), TAGS.size(), TAGS.getReuseCount(),
+                (COMPANIES.getSavedBytes() + TAGS.getSavedBytes()) / 1024);
+    }
+
+    private static long estimateSize(Company company) {
+        // the company object, its value and its list of tokens
+        long size = align(OBJECT_HEADER_BYTES + 2 * REFERENCE_BYTES) + ObjectSizes.estimateSize(company.value);
+        size += align(OBJECT_HEADER_BYTES + REFERENCE_BYTES) // unmodifiable list wrapper
+                + align(OBJECT_HEADER_BYTES + 2 * Integer.BYTES + REFERENCE_BYTES) // backing ArrayList
+                + align(ARRAY_HEADER_BYTES + REFERENCE_BYTES * company.getTokens().size());
+        for (String token : company.getTokens()) {
+            size += ObjectSizes.estimateSize(token);
+        }
+        return size;
+    }
+
+    private static long estimateSize(Tag tag) {
+        // the tag object with its name and folded name
+        return align(OBJECT_HEADER_BYTES + 2 * REFERENCE_BYTES + Integer.BYTES)
+                + ObjectSizes.estimateSize(tag.tagName) + ObjectSizes.estimateSize(tag.getFoldedName());
+    }
+
+}
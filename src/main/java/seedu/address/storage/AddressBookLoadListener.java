@@ -0,0 +1,31 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Follows the progress of reading a contact book from storage.
+ */
+@FunctionalInterface
+public interface AddressBookLoadListener {
+
+    /** A listener that ignores the progress. */
+    AddressBookLoadListener NONE = (personsRead, fractionRead) -> {};
+
+    /**
+     * Called on the reading thread each time a batch of persons has been read.
+     * The persons read may still be changed by the rest of the data file, e.g. by a journal replayed onto them.
+     *
+     * @param personsRead the persons read so far, in order. Only valid during the call.
+     * @param fractionRead the fraction of the data file read so far, from 0 to 1.
+     */
+    void onPersonsRead(List<Person> personsRead, double fractionRead);
+
+    /**
+     * Called on the reading thread if the contact book read is not what the data file holds, e.g. when the data
+     * file is missing and the sample contact book is used instead, so that it is saved once loaded.
+     */
+    default void onDataFileNotRead() {}
+
+}
@@ -10,7 +10,7 @@ import seedu.address.model.ReadOnlyAddressBook;
 /**
  * Represents a storage for {@link seedu.address.model.AddressBook}.
  */
-public interface AddressBookStorage {
+public interface AddressBookStorage extends AutoCloseable {
 
     /**
      * Returns the file path of the data file.
@@ -30,6 +30,15 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Similar to {@link #readAddressBook()}, telling {@code listener} of the persons read as reading progresses.
+     * Storages that cannot report progress read the whole contact book first.
+     */
+    default Optional<ReadOnlyAddressBook> readAddressBookProgressively(AddressBookLoadListener listener)
+            throws DataLoadingException {
+        return readAddressBook();
+    }
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -42,4 +51,20 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Tells the storage that its data file holds {@code addressBook}, e.g. as it was just read from there,
+     * so that the next save can build on it instead of rewriting the whole data file.
+     * Storages that save the same way regardless do nothing.
+     */
+    default void markSaved(ReadOnlyAddressBook addressBook) {}
+
+    /**
+     * Releases what the storage holds on to between reads and saves, e.g. an open database.
+     * Storages that hold on to nothing do nothing.
+     *
+     * @throws IOException if there was any problem releasing it.
+     */
+    @Override
+    default void close() throws IOException {}
+
 }
@@ -0,0 +1,153 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves contact books to an {@link AddressBookStorage} on a dedicated background thread,
+ * so that the thread submitting them is not held up by the disk.
+ *
+ * Contact books submitted must not change afterwards, e.g. {@link seedu.address.model.AddressBookSnapshot}s.
+ * Contact books submitted while a save is running are coalesced: only the latest of them is saved next.
+ * Failed saves are reported to the failure listeners, on the background thread, and retried by {@link #flush()}.
+ * Other work on the data files, e.g. converting them, can be run on the same thread, in turn with the saves.
+ */
+public class BackgroundAddressBookSaver implements AutoCloseable {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundAddressBookSaver.class);
+
+    private final AddressBookStorage storage;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<ReadOnlyAddressBook> pending = new AtomicReference<>();
+    private final List<Consumer<IOException>> failureListeners = new CopyOnWriteArrayList<>();
+
+    /** The latest contact book whose save failed, if no later save succeeded. Only used by the saver thread. */
+    private ReadOnlyAddressBook unsaved;
+
+    /**
+     * Creates a saver that saves to {@code storage}.
+     */
+    public BackgroundAddressBookSaver(AddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Adds a listener told of every failed save. Listeners are called on the background thread.
+     */
+    public void addFailureListener(Consumer<IOException> listener) {
+        requireNonNull(listener);
+        failureListeners.add(listener);
+    }
+
+    /**
+     * Saves {@code addressBook} in the background, in place of any contact book submitted earlier
+     * that has not started being saved.
+     */
+    public void submit(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (pending.getAndSet(addressBook) == null) {
+            executor.execute(this::savePending);
+        }
+    }
+
+    /**
+     * Runs {@code task} in the background, once the contact books submitted so far are saved, and returns its
+     * result, which completes on the background thread. A task that throws completes the result with that exception.
+     */
+    public <T> CompletableFuture<T> submitTask(Callable<T> task) {
+        requireNonNull(task);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        executor.execute(() -> {
+            savePending();
+            try {
+                result.complete(task.call());
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Waits until every contact book submitted so far is saved, retrying the last failed save if needed.
+     *
+     * @throws IOException if the latest contact book submitted could not be saved.
+     */
+    public void flush() throws IOException {
+        Future<IOException> failure = executor.submit(() -> {
+            savePending();
+            if (unsaved == null) {
+                return null;
+            }
+            try {
+                storage.saveAddressBook(unsaved);
+                unsaved = null;
+                return null;
+            } catch (IOException ioe) {
+                return ioe;
+            }
+        });
+
+        try {
+            IOException ioe = failure.get();
+            if (ioe != null) {
+                throw ioe;
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the contact book to be saved", ie);
+        } catch (ExecutionException ee) {
+            throw new IOException("Could not save the contact book", ee.getCause());
+        }
+    }
+
+    /**
+     * Flushes the saves, then stops the background thread. No contact book can be submitted afterwards.
+     *
+     * @throws IOException if the latest contact book submitted could not be saved.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void savePending() {
+        ReadOnlyAddressBook addressBook = pending.getAndSet(null);
+        if (addressBook == null) {
+            return;
+        }
+        try {
+            storage.saveAddressBook(addressBook);
+            unsaved = null;
+        } catch (IOException ioe) {
+            logger.warning("Could not save the contact book in the background: " + ioe);
+            unsaved = addressBook;
+            failureListeners.forEach(listener -> listener.accept(ioe));
+        }
+    }
+
+}
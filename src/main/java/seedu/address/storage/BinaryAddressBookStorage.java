@@ -0,0 +1,124 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.ValuePools;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot on the hard disk.
+ * The whole snapshot is rewritten on every save, so there is no journal to replay on loading.
+ * Snapshots are read by mapping them into memory, except on Windows, where a mapped file cannot be replaced
+ * until the garbage collector releases the mapping, so they are read onto the heap instead.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+    private final boolean isMemoryMapped;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, MappedFile.canReplaceWhileMapped());
+    }
+
+    /**
+     * Creates a storage for the snapshot at {@code filePath}, which is read by mapping it into memory
+     * if {@code isMemoryMapped}, or by reading all of it onto the heap otherwise.
+     */
+    BinaryAddressBookStorage(Path filePath, boolean isMemoryMapped) {
+        this.filePath = filePath;
+        this.isMemoryMapped = isMemoryMapped;
+    }
+
+    /**
+     * Returns the path of the binary data file kept next to the JSON data file at {@code jsonFilePath},
+     * with the same name but the binary file extension.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        return FileUtil.replaceExtension(jsonFilePath, FILE_EXTENSION);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return readAddressBook(filePath, AddressBookLoadListener.NONE);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBookProgressively(AddressBookLoadListener listener)
+            throws DataLoadingException {
+        return readAddressBook(filePath, listener);
+    }
+
+    private Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, AddressBookLoadListener listener)
+            throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try {
+            ByteBuffer buffer = isMemoryMapped
+                    ? MappedFile.map(filePath)
+                    : ByteBuffer.wrap(Files.readAllBytes(filePath));
+            ReadOnlyAddressBook addressBook = BinarySnapshot.read(buffer, listener);
+            logger.info(ValuePools.getSavingsReport());
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            String cause = ive.getCause() == null ? "" : " (" + ive.getCause().getMessage() + ")";
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage() + cause);
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeChannelAtomically(filePath, channel -> BinarySnapshot.write(addressBook, channel),
+                JsonAddressBookStorage.BACKUP_GENERATIONS);
+    }
+
+}
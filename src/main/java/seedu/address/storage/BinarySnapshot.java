@@ -0,0 +1,259 @@
+package seedu.address.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes contact books in the binary snapshot format, a compact alternative to JSON that is fast to load.
+ *
+ * <pre>
+ * header:     magic "FCAB" (4 bytes), format version (1 byte), flags (1 byte), number of persons (4 bytes),
+ *             CRC32 of the body (4 bytes), with numbers big-endian
+ * body:       the company dictionary, the tag dictionary, then a record for each person
+ * dictionary: the number of entries, then each entry as a string. Entries are referred to by their position.
+ * record:     name, phone, email, company id, detail, number of tags, then each tag id
+ * </pre>
+ * Numbers in the body are unsigned varints, 7 bits to a byte with the least significant first,
+ * and strings are their length in bytes as a varint followed by their UTF-8 bytes.
+ */
+final class BinarySnapshot {
+
+    /** "FCAB" in ASCII. */
+    static final int MAGIC = 0x46434142;
+    static final byte FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = 14;
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_VARINT_BYTES = 5;
+
+    private BinarySnapshot() {}
+
+    /**
+     * Writes {@code addressBook} as a snapshot to {@code channel}, starting at its current position.
+     */
+    static void write(ReadOnlyAddressBook addressBook, FileChannel channel) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> companyIds = new LinkedHashMap<>();
+        Map<String, Integer> tagIds = new LinkedHashMap<>();
+        for (Person person : persons) {
+            companyIds.putIfAbsent(person.getCompany().value, companyIds.size());
+            for (Tag tag : person.getTags()) {
+                tagIds.putIfAbsent(tag.tagName, tagIds.size());
+            }
+        }
+
+        long headerPosition = channel.position();
+        CRC32 crc = new CRC32();
+        OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE);
+        out.write(new byte[HEADER_SIZE]); // filled in once the checksum of the body is known
+        Encoder body = new Encoder(new CheckedOutputStream(out, crc));
+        body.writeDictionary(companyIds.keySet());
+        body.writeDictionary(tagIds.keySet());
+        for (Person person : persons) {
+            body.writeString(person.getName().fullName);
+            body.writeString(person.getPhone().value);
+            body.writeString(person.getEmail().value);
+            body.writeVarint(companyIds.get(person.getCompany().value));
+            body.writeString(person.getDetail().value);
+            Set<Tag> tags = person.getTags();
+            body.writeVarint(tags.size());
+            for (Tag tag : tags) {
+                body.writeVarint(tagIds.get(tag.tagName));
+            }
+        }
+        out.flush();
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .put(FORMAT_VERSION)
+                .put((byte) 0)
+                .putInt(persons.size())
+                .putInt((int) crc.getValue());
+        header.flip();
+        while (header.hasRemaining()) {
+            channel.write(header, headerPosition + header.position());
+        }
+    }
+
+    /**
+     * Reads the snapshot in {@code buffer}, from its position to its limit, telling {@code listener} of the
+     * persons read after each batch. The persons are validated and converted the same way as those read from JSON.
+     *
+     * @throws IOException if the snapshot is not in a supported format or is corrupted.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(ByteBuffer buffer, AddressBookLoadListener listener)
+            throws IOException, IllegalValueException {
+        ByteBuffer snapshot = buffer.slice();
+        if (snapshot.remaining() < HEADER_SIZE || snapshot.getInt() != MAGIC) {
+            throw new IOException("Not a binary contact book snapshot");
+        }
+        byte version = snapshot.get();
+        byte flags = snapshot.get();
+        if (version != FORMAT_VERSION || flags != 0) {
+            throw new IOException("Unsupported binary snapshot version " + version + " with flags " + flags);
+        }
+        int count = snapshot.getInt();
+        int checksum = snapshot.getInt();
+        CRC32 crc = new CRC32();
+        crc.update(snapshot.duplicate());
+        if ((int) crc.getValue() != checksum || count < 0) {
+            throw new IOException("Binary snapshot is corrupted: its checksum does not match");
+        }
+
+        try {
+            Decoder body = new Decoder(snapshot);
+            List<String> companies = body.readDictionary();
+            List<String> tags = body.readDictionary();
+            List<Person> personList = new ArrayList<>(Math.min(count, snapshot.remaining()));
+            List<Person> personsRead = Collections.unmodifiableList(personList);
+            List<JsonAdaptedPerson> batch = new ArrayList<>();
+            int batchSize = JsonSerializableAddressBook.FIRST_READ_BATCH_SIZE;
+            for (int i = 0; i < count; i++) {
+                batch.add(body.readPerson(companies, tags));
+                if (batch.size() == batchSize || i == count - 1) {
+                    JsonSerializableAddressBook.convertPersons(batch, personList);
+                    batch.clear();
+                    listener.onPersonsRead(personsRead, (double) personList.size() / count);
+                    batchSize = JsonSerializableAddressBook.READ_BATCH_SIZE;
+                }
+            }
+            if (snapshot.hasRemaining()) {
+                throw new IOException("Binary snapshot has data after its last person");
+            }
+            return JsonSerializableAddressBook.toAddressBook(personList);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Binary snapshot ends before its last person", e);
+        }
+    }
+
+    /**
+     * Writes the numbers and strings of the body.
+     */
+    private static class Encoder {
+        private final OutputStream out;
+
+        Encoder(OutputStream out) {
+            this.out = out;
+        }
+
+        void writeVarint(int value) throws IOException {
+            int remaining = value;
+            while ((remaining & ~0x7F) != 0) {
+                out.write((remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            out.write(remaining);
+        }
+
+        void writeString(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(bytes.length);
+            out.write(bytes);
+        }
+
+        void writeDictionary(Collection<String> entries) throws IOException {
+            writeVarint(entries.size());
+            for (String entry : entries) {
+                writeString(entry);
+            }
+        }
+    }
+
+    /**
+     * Reads the numbers, strings and records of the body, straight from the buffer.
+     */
+    private static class Decoder {
+        private final ByteBuffer buffer;
+        private byte[] scratch = new byte[64];
+
+        Decoder(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        int readVarint() throws IOException {
+            int value = 0;
+            for (int i = 0; i < MAX_VARINT_BYTES; i++) {
+                byte next = buffer.get();
+                value |= (next & 0x7F) << (7 * i);
+                if (next >= 0) {
+                    if (value < 0) {
+                        break;
+                    }
+                    return value;
+                }
+            }
+            throw new IOException("Binary snapshot has a malformed number");
+        }
+
+        String readString() throws IOException {
+            int length = readVarint();
+            if (length > buffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            if (buffer.hasArray()) {
+                String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                        StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length);
+                return value;
+            }
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, 2 * scratch.length)];
+            }
+            buffer.get(scratch, 0, length);
+            return new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+
+        List<String> readDictionary() throws IOException {
+            int size = readVarint();
+            List<String> entries = new ArrayList<>(Math.min(size, buffer.remaining()));
+            for (int i = 0; i < size; i++) {
+                entries.add(readString());
+            }
+            return entries;
+        }
+
+        JsonAdaptedPerson readPerson(List<String> companies, List<String> tags) throws IOException {
+            String name = readString();
+            String phone = readString();
+            String email = readString();
+            String company = lookUp(companies, readVarint());
+            String detail = readString();
+            int tagCount = readVarint();
+            List<JsonAdaptedTag> personTags = new ArrayList<>(Math.min(tagCount, buffer.remaining()));
+            for (int i = 0; i < tagCount; i++) {
+                personTags.add(new JsonAdaptedTag(lookUp(tags, readVarint())));
+            }
+            return new JsonAdaptedPerson(name, phone, email, company, detail, personTags);
+        }
+
+        private static String lookUp(List<String> dictionary, int id) throws IOException {
+            if (id >= dictionary.size()) {
+                throw new IOException("Binary snapshot refers to a missing dictionary entry");
+            }
+            return dictionary.get(id);
+        }
+    }
+
+}
@@ -0,0 +1,444 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.ValuePools;
+
+/**
+ * A class to access AddressBook data stored in an embedded H2 database file, which runs inside the app.
+ *
+ * Each person is a row, with its tags in a table of their own, and is saved with a rank that orders it among the
+ * others. Saving replays the changes made since the last save, or compares the persons with those last saved or read
+ * by identity if the changes are not known, and only deletes the rows of the persons removed or changed and inserts
+ * the rows of the persons added or changed, in a single transaction.
+ * The persons are indexed by folded name, phone, email and folded tag.
+ *
+ * The storage opens its database on first use and keeps the connection, and the database, open until the storage
+ * is closed. The schema is created, or upgraded from an older version, when the database is opened.
+ * If there is no database yet, the JSON data file it was created for is read and copied into a new database.
+ */
+public class DatabaseAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".mv.db";
+    public static final String MESSAGE_NEWER_SCHEMA = "Database schema version %d is newer than this app's %d";
+
+    /** The version of the schema below, to be raised with every change to it. */
+    static final int SCHEMA_VERSION = 1;
+
+    private static final String[] SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS schema_version (version INT NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS persons (person_rank BIGINT PRIMARY KEY, name VARCHAR NOT NULL,"
+                + " folded_name VARCHAR NOT NULL, phone VARCHAR NOT NULL, email VARCHAR NOT NULL,"
+                + " company VARCHAR NOT NULL, detail VARCHAR NOT NULL)",
+        "CREATE INDEX IF NOT EXISTS persons_folded_name ON persons (folded_name)",
+        "CREATE INDEX IF NOT EXISTS persons_phone ON persons (phone)",
+        "CREATE INDEX IF NOT EXISTS persons_email ON persons (email)",
+        "CREATE TABLE IF NOT EXISTS person_tags (person_rank BIGINT NOT NULL"
+                + " REFERENCES persons (person_rank) ON DELETE CASCADE,"
+                + " tag VARCHAR NOT NULL, folded_tag VARCHAR NOT NULL)",
+        "CREATE INDEX IF NOT EXISTS person_tags_folded_tag ON person_tags (folded_tag)"
+    };
+
+    private static final String INSERT_PERSON = "INSERT INTO persons"
+            + " (person_rank, name, folded_name, phone, email, company, detail) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_TAG = "INSERT INTO person_tags (person_rank, tag, folded_tag) VALUES (?, ?, ?)";
+    private static final String DELETE_PERSON = "DELETE FROM persons WHERE person_rank = ?";
+    private static final String SELECT_PERSONS =
+            "SELECT person_rank, name, phone, email, company, detail FROM persons ORDER BY person_rank";
+    private static final String SELECT_TAGS = "SELECT person_rank, tag FROM person_tags";
+
+    /** The number of rows sent to the database together. */
+    private static final int BATCH_SIZE = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(DatabaseAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path jsonFilePath;
+
+    /** The ranks of the persons last saved or read, or null if the next save must rewrite every row. */
+    private PersonRanking savedRanking;
+
+    /** The connection to the database at {@code filePath}, or null if it is not open. */
+    private Connection connection;
+
+    public DatabaseAddressBookStorage(Path filePath) {
+        this(filePath, null);
+    }
+
+    /**
+     * Creates a storage for the database at {@code filePath}, which is created from the JSON data file at
+     * {@code jsonFilePath} the first time it is read, if it does not exist yet.
+     *
+     * @param jsonFilePath the JSON data file to create the database from, or null if there is none.
+     */
+    public DatabaseAddressBookStorage(Path filePath, Path jsonFilePath) {
+        requireNonNull(filePath);
+        if (!filePath.getFileName().toString().endsWith(FILE_EXTENSION)) {
+            throw new IllegalArgumentException("Database file must end with " + FILE_EXTENSION + ": " + filePath);
+        }
+        this.filePath = filePath;
+        this.jsonFilePath = jsonFilePath;
+    }
+
+    /**
+     * Returns the path of the database kept next to the JSON data file at {@code jsonFilePath},
+     * with the same name but the database file extension.
+     */
+    public static Path getDatabaseFilePath(Path jsonFilePath) {
+        return FileUtil.replaceExtension(jsonFilePath, FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the database. Cannot be null.
+     * @throws DataLoadingException if loading the data from the database failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return readAddressBook(filePath, AddressBookLoadListener.NONE);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, telling {@code listener} of the persons once they have all been read.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBookProgressively(AddressBookLoadListener listener)
+            throws DataLoadingException {
+        return readAddressBook(filePath, listener);
+    }
+
+    private synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath,
+            AddressBookLoadListener listener) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (!Files.exists(filePath)) {
+            return isOwnFile ? migrateFromJson(listener) : Optional.empty();
+        }
+        logger.info("Database " + filePath + " found.");
+
+        try {
+            List<Long> ranks = new ArrayList<>();
+            List<JsonAdaptedPerson> adapted = new ArrayList<>();
+            if (isOwnFile) {
+                readRows(getConnection(), ranks, adapted);
+            } else {
+                try (Connection otherConnection = open(filePath)) {
+                    readRows(otherConnection, ranks, adapted);
+                }
+            }
+
+            List<Person> personList = new ArrayList<>(adapted.size());
+            JsonSerializableAddressBook.convertPersons(adapted, personList);
+            listener.onPersonsRead(Collections.unmodifiableList(personList), 1);
+            AddressBook addressBook = JsonSerializableAddressBook.toAddressBook(personList);
+            if (isOwnFile) {
+                savedRanking = PersonRanking.of(personList, ranks.stream().mapToLong(Long::longValue).toArray(),
+                        person -> 0);
+            }
+            logger.info(ValuePools.getSavingsReport());
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            String cause = ive.getCause() == null ? "" : " (" + ive.getCause().getMessage() + ")";
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage() + cause);
+            throw new DataLoadingException(ive);
+        } catch (SQLException sqle) {
+            logger.warning("Error reading from " + filePath + ": " + sqle);
+            throw new DataLoadingException(sqle);
+        }
+    }
+
+    /**
+     * Reads the rows of the persons, in order, appending their ranks to {@code ranks} and the persons to
+     * {@code adapted}.
+     */
+    private static void readRows(Connection connection, List<Long> ranks, List<JsonAdaptedPerson> adapted)
+            throws SQLException {
+        Map<Long, List<JsonAdaptedTag>> tags = readTags(connection);
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery(SELECT_PERSONS)) {
+            while (rows.next()) {
+                long rank = rows.getLong(1);
+                ranks.add(rank);
+                adapted.add(new JsonAdaptedPerson(rows.getString(2), rows.getString(3), rows.getString(4),
+                        rows.getString(5), rows.getString(6), tags.getOrDefault(rank, Collections.emptyList())));
+            }
+        }
+    }
+
+    private static Map<Long, List<JsonAdaptedTag>> readTags(Connection connection) throws SQLException {
+        Map<Long, List<JsonAdaptedTag>> tags = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery(SELECT_TAGS)) {
+            while (rows.next()) {
+                tags.computeIfAbsent(rows.getLong(1), rank -> new ArrayList<>())
+                        .add(new JsonAdaptedTag(rows.getString(2)));
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * Reads the JSON data file this database was created for, if any, and saves its contact book as the database.
+     */
+    private Optional<ReadOnlyAddressBook> migrateFromJson(AddressBookLoadListener listener)
+            throws DataLoadingException {
+        if (jsonFilePath == null || !Files.exists(jsonFilePath)) {
+            return Optional.empty();
+        }
+        logger.info("Database " + filePath + " not found, creating it from " + jsonFilePath);
+        Optional<ReadOnlyAddressBook> addressBook =
+                new JournaledAddressBookStorage(jsonFilePath).readAddressBookProgressively(listener);
+        if (addressBook.isPresent()) {
+            try {
+                saveAddressBook(addressBook.get());
+            } catch (IOException ioe) {
+                // the contact book is still read; the database is created by the next save instead
+                logger.warning("Could not create the database " + filePath + ": " + ioe);
+            }
+        }
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a path other than this storage's own always rewrites every row there.
+     *
+     * @param filePath location of the database. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        boolean isOwnFile = filePath.equals(this.filePath);
+        Optional<PersonRanking.Rewrite> rewrite = isOwnFile && savedRanking != null && Files.exists(filePath)
+                ? savedRanking.update(addressBook)
+                : Optional.empty();
+        PersonRanking ranking = rewrite.isPresent() ? savedRanking : PersonRanking.rankAll(addressBook, person -> 0);
+        if (isOwnFile) {
+            // a failed save may leave the rows as they were or as they are now, so the next must rewrite them all
+            savedRanking = null;
+        }
+
+        try {
+            if (isOwnFile) {
+                writeRows(getConnection(), persons, ranking, rewrite);
+            } else {
+                try (Connection otherConnection = open(filePath)) {
+                    writeRows(otherConnection, persons, ranking, Optional.empty());
+                }
+            }
+        } catch (SQLException e) {
+            throw new IOException("Could not save to the database " + filePath + ": " + e.getMessage(), e);
+        }
+
+        if (isOwnFile) {
+            savedRanking = ranking;
+        }
+    }
+
+    /**
+     * Notes that {@code addressBook} holds the persons just read from this storage's own database, if it does,
+     * so that the next save only writes the rows changed since.
+     */
+    @Override
+    public synchronized void markSaved(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (savedRanking != null) {
+            savedRanking.markSaved(addressBook);
+        }
+    }
+
+    /**
+     * Writes the rows of {@code persons}, ranked by {@code ranking}, in a single transaction: only those that
+     * {@code rewrite} names if it is present, or all of them in place of every row otherwise.
+     */
+    private static void writeRows(Connection connection, List<Person> persons, PersonRanking ranking,
+            Optional<PersonRanking.Rewrite> rewrite) throws SQLException {
+        connection.setAutoCommit(false);
+        try {
+            if (rewrite.isPresent()) {
+                // stale rows go first, as a person ranked anew may take the rank of one
+                deletePersons(connection, rewrite.get().getStaleRanks());
+                insertPersons(connection, persons, ranking, rewrite.get().getChangedPositions());
+            } else {
+                try (Statement statement = connection.createStatement()) {
+                    statement.executeUpdate("DELETE FROM person_tags");
+                    statement.executeUpdate("DELETE FROM persons");
+                }
+                insertPersons(connection, persons, ranking, IntStream.range(0, persons.size()).toArray());
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private static void deletePersons(Connection connection, long[] ranks) throws SQLException {
+        try (PreparedStatement delete = connection.prepareStatement(DELETE_PERSON)) {
+            int batched = 0;
+            for (long rank : ranks) {
+                delete.setLong(1, rank);
+                delete.addBatch();
+                if (++batched % BATCH_SIZE == 0) {
+                    delete.executeBatch();
+                }
+            }
+            delete.executeBatch();
+        }
+    }
+
+    private static void insertPersons(Connection connection, List<Person> persons, PersonRanking ranking,
+            int[] positions) throws SQLException {
+        try (PreparedStatement insertPerson = connection.prepareStatement(INSERT_PERSON);
+                PreparedStatement insertTag = connection.prepareStatement(INSERT_TAG)) {
+            int batched = 0;
+            for (int position : positions) {
+                Person person = persons.get(position);
+                long rank = ranking.getRank(position);
+                insertPerson.setLong(1, rank);
+                insertPerson.setString(2, person.getName().fullName);
+                insertPerson.setString(3, person.getName().getFoldedName());
+                insertPerson.setString(4, person.getPhone().value);
+                insertPerson.setString(5, person.getEmail().value);
+                insertPerson.setString(6, person.getCompany().value);
+                insertPerson.setString(7, person.getDetail().value);
+                insertPerson.addBatch();
+                for (Tag tag : person.getTags()) {
+                    insertTag.setLong(1, rank);
+                    insertTag.setString(2, tag.tagName);
+                    insertTag.setString(3, tag.getFoldedName());
+                    insertTag.addBatch();
+                }
+                if (++batched % BATCH_SIZE == 0) {
+                    // the persons must be in before the tags referring to them
+                    insertPerson.executeBatch();
+                    insertTag.executeBatch();
+                }
+            }
+            insertPerson.executeBatch();
+            insertTag.executeBatch();
+        }
+    }
+
+    /**
+     * Creates the tables and indexes of the schema if they are missing, and records the schema version.
+     *
+     * @throws SQLException if the database was written with a newer schema than this app knows.
+     */
+    private static void upgradeSchema(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String definition : SCHEMA) {
+                statement.execute(definition);
+            }
+            try (ResultSet version = statement.executeQuery("SELECT MAX(version) FROM schema_version")) {
+                version.next();
+                int current = version.getInt(1);
+                if (current > SCHEMA_VERSION) {
+                    throw new SQLException(String.format(MESSAGE_NEWER_SCHEMA, current, SCHEMA_VERSION));
+                }
+                if (current < SCHEMA_VERSION) {
+                    // version 1 is the first schema, so there is nothing older to migrate yet
+                    statement.executeUpdate("DELETE FROM schema_version");
+                    statement.executeUpdate("INSERT INTO schema_version (version) VALUES (" + SCHEMA_VERSION + ")");
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the connection to this storage's database, opening it if it is not open.
+     */
+    private Connection getConnection() throws SQLException {
+        if (connection == null) {
+            connection = open(filePath);
+        }
+        return connection;
+    }
+
+    /**
+     * Opens the database at {@code filePath}, creating it if it does not exist, and brings its schema up to date.
+     * H2 adds the database file extension to the name it is given, so a path without it names the database
+     * file with it added.
+     */
+    private static Connection open(Path filePath) throws SQLException {
+        String fileName = filePath.toAbsolutePath().toString();
+        String databaseName = fileName.endsWith(FILE_EXTENSION)
+                ? fileName.substring(0, fileName.length() - FILE_EXTENSION.length())
+                : fileName;
+        Connection opened = DriverManager.getConnection("jdbc:h2:file:" + databaseName);
+        try {
+            upgradeSchema(opened);
+        } catch (SQLException e) {
+            opened.close();
+            throw e;
+        }
+        return opened;
+    }
+
+    /**
+     * Closes the connection to the database, which H2 then shuts down. The database is opened again if the storage
+     * is used afterwards.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            throw new IOException("Could not close the database " + filePath + ": " + e.getMessage(), e);
+        } finally {
+            connection = null;
+        }
+    }
+
+}
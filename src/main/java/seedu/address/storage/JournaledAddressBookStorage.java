@@ -0,0 +1,306 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.TrackedAddressBook;
+import seedu.address.model.util.ValuePools;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file together with a journal of the
+ * changes made since the snapshot was written.
+ *
+ * Saving a {@link TrackedAddressBook} whose origin was saved before appends one compact line per change to the
+ * journal and forces it to the disk, so that a save costs time in proportion to the change instead of the book.
+ * A full snapshot (a checkpoint) is written instead when the journal grows past the checkpoint interval,
+ * when the whole contact book was replaced, or when the changes are not known.
+ * Reading the contact book reads the snapshot and replays the journal on top of it. A contact book just read can
+ * be marked as saved, so that the changes made to it after reading are appended to the same journal.
+ * A snapshot compressed in the gzip format can be read too, though checkpoints are always written uncompressed.
+ *
+ * The journal starts with a checkpoint record holding the checksum of the snapshot it belongs to.
+ * A journal whose checksum does not match the snapshot was left behind by an interrupted checkpoint
+ * and is ignored, as the snapshot already holds its changes.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 1000;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int checkpointInterval;
+
+    /** The origin of the contact book last saved, or null if the next save must be a checkpoint. */
+    private AddressBook savedOrigin;
+    private long savedVersion;
+    private int journalRecordCount;
+    /** The number of records in the journal when this storage's own file was last read, or -1 if not known. */
+    private int readJournalRecordCount = -1;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Creates a storage that writes a checkpoint after at most {@code checkpointInterval} journal records.
+     */
+    public JournaledAddressBookStorage(Path filePath, int checkpointInterval) {
+        requireNonNull(filePath);
+        if (checkpointInterval < 1) {
+            throw new IllegalArgumentException("Checkpoint interval must be positive: " + checkpointInterval);
+        }
+        this.filePath = filePath;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the snapshot or replaying the journal failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return readAddressBook(filePath, AddressBookLoadListener.NONE);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBookProgressively(AddressBookLoadListener listener)
+            throws DataLoadingException {
+        return readAddressBook(filePath, listener);
+    }
+
+    private synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath,
+            AddressBookLoadListener listener) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        CRC32 crc = new CRC32();
+        try (InputStream checked = new CheckedInputStream(Files.newInputStream(filePath), crc);
+                InputStream in = FileUtil.decompressIfGzipped(checked)) {
+            long size = FileUtil.getDecompressedSize(filePath);
+            AddressBook addressBook = JsonUtil.readJsonStream(parser ->
+                    JsonSerializableAddressBook.readFrom(parser, listener, size), in);
+            // the checksum covers the whole file, including anything after the contact book
+            in.transferTo(OutputStream.nullOutputStream());
+            checked.transferTo(OutputStream.nullOutputStream());
+            Path journalPath = getJournalFilePath(filePath);
+            int replayedCount = replayJournal(addressBook, journalPath, crc.getValue());
+            if (filePath.equals(this.filePath)) {
+                // a record cut off at the end would swallow the next one appended
+                readJournalRecordCount = replayedCount >= 0 && endsWithLineBreak(journalPath) ? replayedCount : -1;
+            }
+            logger.info("Replayed " + Math.max(0, replayedCount) + " journal records onto " + filePath);
+            logger.info(ValuePools.getSavingsReport());
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            String cause = ive.getCause() == null ? "" : " (" + ive.getCause().getMessage() + ")";
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage() + cause);
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a path other than this storage's own always writes a checkpoint there.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeCheckpoint(addressBook, filePath);
+            return;
+        }
+
+        Optional<List<AddressBookChange>> changes = getChangesSinceSaved(addressBook);
+        // until the save succeeds, the journal may hold part of the changes, so the next save must be a checkpoint
+        savedOrigin = null;
+        readJournalRecordCount = -1;
+        if (changes.isPresent() && canAppend(changes.get())) {
+            appendToJournal(changes.get());
+            journalRecordCount += changes.get().size();
+        } else {
+            writeCheckpoint(addressBook, filePath);
+            journalRecordCount = 0;
+        }
+
+        if (addressBook instanceof TrackedAddressBook) {
+            savedOrigin = ((TrackedAddressBook) addressBook).getOrigin();
+            savedVersion = ((TrackedAddressBook) addressBook).getVersion();
+        }
+    }
+
+    /**
+     * Marks {@code addressBook} as saved if it is a {@link TrackedAddressBook} holding what was last read from this
+     * storage's own file, and the journal read with it belongs to the snapshot, so that it can be appended to.
+     */
+    @Override
+    public synchronized void markSaved(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (!(addressBook instanceof TrackedAddressBook) || readJournalRecordCount < 0) {
+            return;
+        }
+        savedOrigin = ((TrackedAddressBook) addressBook).getOrigin();
+        savedVersion = ((TrackedAddressBook) addressBook).getVersion();
+        journalRecordCount = readJournalRecordCount;
+        readJournalRecordCount = -1;
+    }
+
+    private Optional<List<AddressBookChange>> getChangesSinceSaved(ReadOnlyAddressBook addressBook) {
+        if (!(addressBook instanceof TrackedAddressBook)
+                || ((TrackedAddressBook) addressBook).getOrigin() != savedOrigin) {
+            return Optional.empty();
+        }
+        return ((TrackedAddressBook) addressBook).getChangesSince(savedVersion);
+    }
+
+    private boolean canAppend(List<AddressBookChange> changes) {
+        return journalRecordCount + changes.size() <= checkpointInterval
+                && changes.stream().noneMatch(change -> change.getKind() == AddressBookChange.Kind.RESET);
+    }
+
+    private void appendToJournal(List<AddressBookChange> changes) throws IOException {
+        if (changes.isEmpty()) {
+            return;
+        }
+        StringBuilder records = new StringBuilder();
+        for (AddressBookChange change : changes) {
+            records.append(JsonUtil.toJsonLine(new JsonAdaptedJournalRecord(change))).append('\n');
+        }
+        writeAndForce(getJournalFilePath(filePath), records.toString(), StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Atomically replaces the snapshot at {@code filePath} with a full snapshot of {@code addressBook},
+     * then starts a new journal for it.
+     */
+    private void writeCheckpoint(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        CRC32 crc = new CRC32();
+        JsonUtil.StreamWriter snapshot = generator -> JsonSerializableAddressBook.writeTo(addressBook, generator);
+        FileUtil.writeToFileAtomically(filePath, out -> JsonUtil.writeJsonStream(snapshot,
+                new CheckedOutputStream(out, crc)), JsonAddressBookStorage.BACKUP_GENERATIONS);
+        String header = JsonUtil.toJsonLine(JsonAdaptedJournalRecord.checkpoint(crc.getValue())) + '\n';
+        writeAndForce(getJournalFilePath(filePath), header, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Replays the records of the journal at {@code journalPath} onto {@code addressBook},
+     * if the journal belongs to the snapshot with the given {@code checksum}.
+     *
+     * @return the number of records replayed, or -1 if there is no journal for the snapshot.
+     */
+    private static int replayJournal(AddressBook addressBook, Path journalPath, long checksum)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalPath)) {
+            return -1;
+        }
+        List<String> lines = readCompleteLines(journalPath);
+        if (lines.isEmpty()) {
+            return -1;
+        }
+
+        JsonAdaptedJournalRecord header = JsonUtil.fromJsonString(lines.get(0), JsonAdaptedJournalRecord.class);
+        if (!header.isCheckpoint() || header.getChecksum() != checksum) {
+            logger.warning("Ignoring journal " + journalPath + " as it does not belong to the current snapshot");
+            return -1;
+        }
+        for (String line : lines.subList(1, lines.size())) {
+            JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class).applyTo(addressBook);
+        }
+        return lines.size() - 1;
+    }
+
+    /**
+     * Returns the lines of the file at {@code path} that end with a line break.
+     * A last line without one was cut off while being appended, and is left out.
+     */
+    private static List<String> readCompleteLines(Path path) throws IOException {
+        String content = FileUtil.readFromFile(path);
+        List<String> lines = new ArrayList<>();
+        int start = 0;
+        for (int end = content.indexOf('\n'); end >= 0; end = content.indexOf('\n', start)) {
+            lines.add(content.substring(start, end));
+            start = end + 1;
+        }
+        if (start < content.length()) {
+            logger.warning("Ignoring an incomplete record at the end of " + path);
+        }
+        return lines;
+    }
+
+    private static boolean endsWithLineBreak(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer last = ByteBuffer.allocate(1);
+            return channel.size() > 0 && channel.read(last, channel.size() - 1) == 1 && last.get(0) == '\n';
+        }
+    }
+
+    private static void writeAndForce(Path path, String content, StandardOpenOption mode) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+}
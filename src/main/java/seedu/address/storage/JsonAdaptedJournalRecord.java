@@ -0,0 +1,158 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Jackson-friendly version of a record in the journal of a {@link JournaledAddressBookStorage}.
+ * A record is either the checkpoint record that starts the journal, or one {@link AddressBookChange}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_UNKNOWN_OPERATION = "Journal record has an unknown operation: %s";
+    public static final String MESSAGE_INVALID_INDEX = "Journal record refers to a person that does not exist.";
+    public static final String MESSAGE_MISSING_FIELD = "Journal record of operation %s is missing its %s field!";
+    public static final String MESSAGE_INCONSISTENT_CHANGE = "Journal record cannot be applied: %s";
+
+    static final String OPERATION_CHECKPOINT = "checkpoint";
+    static final String OPERATION_ADD = "add";
+    static final String OPERATION_SET = "set";
+    static final String OPERATION_REMOVE = "remove";
+    static final String OPERATION_REORDER = "reorder";
+
+    private final String op;
+    private final Long checksum;
+    private final Integer index;
+    private final JsonAdaptedPerson person;
+    private final int[] order;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") String op, @JsonProperty("checksum") Long checksum,
+            @JsonProperty("index") Integer index, @JsonProperty("person") JsonAdaptedPerson person,
+            @JsonProperty("order") int[] order) {
+        this.op = op;
+        this.checksum = checksum;
+        this.index = index;
+        this.person = person;
+        this.order = order;
+    }
+
+    /**
+     * Converts a given {@code AddressBookChange} into this class for Jackson use.
+     * {@code change} cannot be a {@code RESET} change, which is saved as a checkpoint instead.
+     */
+    public JsonAdaptedJournalRecord(AddressBookChange change) {
+        switch (change.getKind()) {
+        case ADD:
+            op = OPERATION_ADD;
+            break;
+        case SET:
+            op = OPERATION_SET;
+            break;
+        case REMOVE:
+            op = OPERATION_REMOVE;
+            break;
+        case REORDER:
+            op = OPERATION_REORDER;
+            break;
+        default:
+            throw new IllegalArgumentException("A " + change.getKind() + " change cannot be journaled");
+        }
+        checksum = null;
+        index = change.getKind() == AddressBookChange.Kind.REORDER ? null : change.getIndex();
+        person = change.getPerson().map(JsonAdaptedPerson::new).orElse(null);
+        order = change.getOrder().orElse(null);
+    }
+
+    /**
+     * Returns the checkpoint record that starts a journal kept on top of a snapshot with the given {@code checksum}.
+     */
+    public static JsonAdaptedJournalRecord checkpoint(long checksum) {
+        return new JsonAdaptedJournalRecord(OPERATION_CHECKPOINT, checksum, null, null, null);
+    }
+
+    /**
+     * Returns true if this is a checkpoint record.
+     */
+    public boolean isCheckpoint() {
+        return OPERATION_CHECKPOINT.equals(op);
+    }
+
+    /**
+     * Returns the snapshot checksum of a checkpoint record, or -1 if it has none.
+     */
+    public long getChecksum() {
+        return checksum == null ? -1 : checksum;
+    }
+
+    /**
+     * Makes the change described by this record to {@code addressBook}.
+     *
+     * @throws IllegalValueException if this record is invalid or does not fit the current state of
+     *     {@code addressBook}.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPERATION, "null"));
+        }
+        try {
+            switch (op) {
+            case OPERATION_ADD:
+                addressBook.addPersonAt(getIndex(addressBook.getPersonList().size() + 1), getPerson());
+                break;
+            case OPERATION_SET:
+                addressBook.setPerson(getPersonAtIndex(addressBook), getPerson());
+                break;
+            case OPERATION_REMOVE:
+                addressBook.removePerson(getPersonAtIndex(addressBook));
+                break;
+            case OPERATION_REORDER:
+                if (order == null) {
+                    throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, op, "order"));
+                }
+                addressBook.reorder(order);
+                break;
+            default:
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPERATION, op));
+            }
+        } catch (DuplicatePersonException | IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INCONSISTENT_CHANGE, e.getMessage()), e);
+        }
+    }
+
+    private Person getPersonAtIndex(AddressBook addressBook) throws IllegalValueException {
+        List<Person> persons = addressBook.getPersonList();
+        return persons.get(getIndex(persons.size()));
+    }
+
+    private int getIndex(int bound) throws IllegalValueException {
+        if (index == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, op, "index"));
+        }
+        if (index < 0 || index >= bound) {
+            throw new IllegalValueException(MESSAGE_INVALID_INDEX);
+        }
+        return index;
+    }
+
+    private Person getPerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, op, "person"));
+        }
+        return person.toModelType();
+    }
+
+}
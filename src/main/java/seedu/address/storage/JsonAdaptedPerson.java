@@ -17,6 +17,7 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.ValuePools;
 
 /**
  * Jackson-friendly version of {@link Person}.
@@ -105,7 +106,7 @@ class JsonAdaptedPerson {
         if (!Company.isValidCompany(company)) {
             throw new IllegalValueException(Company.MESSAGE_CONSTRAINTS);
         }
-        final Company modelCompany = new Company(company);
+        final Company modelCompany = ValuePools.company(company);
 
         // Detail is optional, default to empty string if not present (for backward compatibility)
         final String detailValue = (detail == null) ? "" : detail;
@@ -3,9 +3,12 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.zip.Deflater;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
@@ -13,18 +16,56 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.ValuePools;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file may be saved compressed in the gzip format; whether it is compressed is detected on reading.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    /** The number of previous versions of the data file kept, to roll back to if it is damaged. */
+    public static final int BACKUP_GENERATIONS = 3;
+    public static final String COMPRESSED_FILE_EXTENSION = ".gz";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompressed;
+    private final int compressionLevel;
 
     public JsonAddressBookStorage(Path filePath) {
         this.filePath = filePath;
+        this.isCompressed = false;
+        this.compressionLevel = Deflater.NO_COMPRESSION;
+    }
+
+    /**
+     * Creates a storage that saves the file compressed in the gzip format at the given Deflater
+     * {@code compressionLevel}, from 0 (stored without compression) to 9 (smallest but slowest).
+     */
+    public JsonAddressBookStorage(Path filePath, int compressionLevel) {
+        if (!isValidCompressionLevel(compressionLevel)) {
+            throw new IllegalArgumentException("Compression level must be from 0 to 9: " + compressionLevel);
+        }
+        this.filePath = filePath;
+        this.isCompressed = true;
+        this.compressionLevel = compressionLevel;
+    }
+
+    /**
+     * Returns true if {@code compressionLevel} is a Deflater level the file can be compressed at.
+     */
+    public static boolean isValidCompressionLevel(int compressionLevel) {
+        return compressionLevel >= Deflater.NO_COMPRESSION && compressionLevel <= Deflater.BEST_COMPRESSION;
+    }
+
+    /**
+     * Returns the path of the compressed data file kept next to the JSON data file at {@code jsonFilePath},
+     * with the same name and the gzip file extension added.
+     */
+    public static Path getCompressedFilePath(Path jsonFilePath) {
+        return jsonFilePath.resolveSibling(jsonFilePath.getFileName() + COMPRESSED_FILE_EXTENSION);
     }
 
     public Path getAddressBookFilePath() {
@@ -43,19 +84,37 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      * @throws DataLoadingException if loading the data from storage failed.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return readAddressBook(filePath, AddressBookLoadListener.NONE);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBookProgressively(AddressBookLoadListener listener)
+            throws DataLoadingException {
+        return readAddressBook(filePath, listener);
+    }
+
+    private Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, AddressBookLoadListener listener)
+            throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
-
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        logger.info("JSON file " + filePath + " found.");
+
+        try (InputStream in = FileUtil.decompressIfGzipped(Files.newInputStream(filePath))) {
+            long size = FileUtil.getDecompressedSize(filePath);
+            ReadOnlyAddressBook addressBook = JsonUtil.readJsonStream(parser ->
+                    JsonSerializableAddressBook.readFrom(parser, listener, size), in);
+            logger.info(ValuePools.getSavingsReport());
+            return Optional.of(addressBook);
         } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            String cause = ive.getCause() == null ? "" : " (" + ive.getCause().getMessage() + ")";
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage() + cause);
             throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         }
     }
 
@@ -73,8 +132,13 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonUtil.StreamWriter writer = generator -> JsonSerializableAddressBook.writeTo(addressBook, generator);
+        if (isCompressed) {
+            FileUtil.writeToFileAtomically(filePath, FileUtil.gzipped(out -> JsonUtil.writeJsonStream(writer, out),
+                    compressionLevel), BACKUP_GENERATIONS);
+        } else {
+            JsonUtil.saveJsonStreamAtomically(writer, filePath, BACKUP_GENERATIONS);
+        }
     }
 
 }
@@ -1,17 +1,27 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -20,6 +30,19 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_INVALID_PERSON = "Person %d in the file is invalid";
+
+    /** Fewer persons than this are converted on the calling thread, as splitting them up costs more than it saves. */
+    static final int PARALLEL_THRESHOLD = 2048;
+
+    /** The number of persons read from a stream before they are converted together. */
+    static final int READ_BATCH_SIZE = 16 * 1024;
+
+    /** The number of persons in the first batch read from a stream, kept small so that they are available soon. */
+    static final int FIRST_READ_BATCH_SIZE = 256;
+
+    /** The number of persons each parallel task converts. */
+    private static final int CHUNK_SIZE = 256;
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -40,21 +63,197 @@ class JsonSerializableAddressBook {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
     }
 
+    /**
+     * Writes {@code source} to {@code generator} in the same form as this class, one person at a time,
+     * so that the adapted persons of the whole contact book are never held in memory together.
+     */
+    public static void writeTo(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("persons");
+        for (Person person : source.getPersonList()) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads a contact book written in the form of this class from {@code parser}, one person at a time.
+     * Persons are converted in batches as they are read and collected for a single bulk load, so that the
+     * adapted persons of the whole contact book are never held in memory together.
+     * Fields other than the persons are skipped.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readFrom(JsonParser parser) throws IOException, IllegalValueException {
+        return readFrom(parser, AddressBookLoadListener.NONE, 0);
+    }
+
+    /**
+     * Similar to {@link #readFrom(JsonParser)}, telling {@code listener} of the persons converted so far after
+     * each batch. The first batch is small, so that the first persons are available soon.
+     *
+     * @param totalBytes the length of the document being parsed, to report the fraction read.
+     */
+    public static AddressBook readFrom(JsonParser parser, AddressBookLoadListener listener, long totalBytes)
+            throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a contact book object");
+        }
+
+        List<Person> personList = new ArrayList<>();
+        List<Person> personsRead = Collections.unmodifiableList(personList);
+        List<JsonAdaptedPerson> batch = new ArrayList<>();
+        int batchSize = FIRST_READ_BATCH_SIZE;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (!field.equals("persons")) {
+                parser.skipChildren();
+                continue;
+            }
+            if (value != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected the persons to be an array");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+                if (batch.size() == batchSize) {
+                    convertPersons(batch, personList);
+                    batch.clear();
+                    listener.onPersonsRead(personsRead, getFractionRead(parser, totalBytes));
+                    batchSize = READ_BATCH_SIZE;
+                }
+            }
+            convertPersons(batch, personList);
+            batch.clear();
+            listener.onPersonsRead(personsRead, getFractionRead(parser, totalBytes));
+        }
+        return toAddressBook(personList);
+    }
+
+    private static double getFractionRead(JsonParser parser, long totalBytes) {
+        long bytesRead = parser.getCurrentLocation().getByteOffset();
+        return totalBytes <= 0 || bytesRead < 0 ? 0 : Math.min(1, (double) bytesRead / totalBytes);
+    }
+
     /**
      * Converts this contact book into the model's {@code AddressBook} object.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        return toModelType(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Converts this contact book into the model's {@code AddressBook} object, converting large contact books
+     * on {@code pool}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    AddressBook toModelType(ForkJoinPool pool) throws IllegalValueException {
+        List<Person> personList = new ArrayList<>(persons.size());
+        convertPersons(persons, personList, pool);
+        return toAddressBook(personList);
+    }
+
+    /**
+     * Converts {@code adapted} and appends the persons to {@code personList}, in order.
+     * Large batches are converted in parallel chunks on the common {@code ForkJoinPool}, if it has more than
+     * one thread.
+     *
+     * @throws IllegalValueException for the first invalid person in order, naming its position in the file.
+     */
+    static void convertPersons(List<JsonAdaptedPerson> adapted, List<Person> personList)
+            throws IllegalValueException {
+        convertPersons(adapted, personList, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Converts {@code adapted} and appends the persons to {@code personList}, in order, converting large batches
+     * in parallel chunks on {@code pool} if it has more than one thread.
+     *
+     * @throws IllegalValueException for the first invalid person in order, naming its position in the file.
+     */
+    static void convertPersons(List<JsonAdaptedPerson> adapted, List<Person> personList, ForkJoinPool pool)
+            throws IllegalValueException {
+        Person[] converted = new Person[adapted.size()];
+        ConversionTask task = new ConversionTask(adapted, converted, 0, adapted.size());
+        boolean isSequential = adapted.size() < PARALLEL_THRESHOLD || pool.getParallelism() < 2;
+        Failure failure = isSequential
+                ? task.convertInOrder()
+                : pool.invoke(task);
+        if (failure != null) {
+            int position = personList.size() + failure.index + 1;
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_PERSON, position), failure.cause);
+        }
+        personList.addAll(Arrays.asList(converted));
+    }
+
+    static AddressBook toAddressBook(List<Person> personList) throws IllegalValueException {
+        try {
+            return new AddressBook(personList);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON, e);
+        }
+    }
+
+    /**
+     * The first invalid person in a range of adapted persons.
+     */
+    private static class Failure {
+        private final int index;
+        private final IllegalValueException cause;
+
+        Failure(int index, IllegalValueException cause) {
+            this.index = index;
+            this.cause = cause;
+        }
+    }
+
+    /**
+     * Converts a range of adapted persons into the same range of an array, splitting it into chunks
+     * converted in parallel. Results in the first failure of the range in order, if any.
+     */
+    private static class ConversionTask extends RecursiveTask<Failure> {
+        private final List<JsonAdaptedPerson> adapted;
+        private final Person[] converted;
+        private final int from;
+        private final int to;
+
+        ConversionTask(List<JsonAdaptedPerson> adapted, Person[] converted, int from, int to) {
+            this.adapted = adapted;
+            this.converted = converted;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Failure compute() {
+            if (to - from <= CHUNK_SIZE) {
+                return convertInOrder();
+            }
+            int middle = (from + to) >>> 1;
+            ConversionTask first = new ConversionTask(adapted, converted, from, middle);
+            first.fork();
+            Failure secondFailure = new ConversionTask(adapted, converted, middle, to).compute();
+            Failure firstFailure = first.join();
+            return firstFailure != null ? firstFailure : secondFailure;
+        }
+
+        /**
+         * Converts the range on the calling thread, stopping at the first failure.
+         */
+        Failure convertInOrder() {
+            for (int i = from; i < to; i++) {
+                try {
+                    converted[i] = adapted.get(i).toModelType();
+                } catch (IllegalValueException ive) {
+                    return new Failure(i, ive);
+                }
             }
-            addressBook.addPerson(person);
+            return null;
         }
-        return addressBook;
     }
 
 }
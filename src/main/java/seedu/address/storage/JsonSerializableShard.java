@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of one shard of a {@link ShardedAddressBookStorage}: some of the persons of the
+ * contact book, each with the rank that orders it among the persons of every shard.
+ */
+class JsonSerializableShard {
+
+    public static final String MESSAGE_MISMATCHED_RANKS = "Shard has %d ranks for %d persons";
+
+    private final List<Long> ranks = new ArrayList<>();
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableShard} with the given ranks and persons, in the same order.
+     */
+    @JsonCreator
+    public JsonSerializableShard(@JsonProperty("ranks") List<Long> ranks,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        if (ranks != null) {
+            this.ranks.addAll(ranks);
+        }
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+    }
+
+    /**
+     * Converts the given persons and their ranks, in the same order, into this class for Jackson use.
+     */
+    public JsonSerializableShard(long[] ranks, List<Person> persons) {
+        for (long rank : ranks) {
+            this.ranks.add(rank);
+        }
+        for (Person person : persons) {
+            this.persons.add(new JsonAdaptedPerson(person));
+        }
+    }
+
+    public List<Long> getRanks() {
+        return ranks;
+    }
+
+    /**
+     * Converts the persons of this shard into the model's {@code Person} objects, in order.
+     *
+     * @throws IllegalValueException if there were any data constraints violated, or the persons do not
+     *     match the ranks.
+     */
+    public List<Person> toModelType() throws IllegalValueException {
+        if (ranks.size() != persons.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_MISMATCHED_RANKS, ranks.size(), persons.size()));
+        }
+        List<Person> personList = new ArrayList<>(persons.size());
+        JsonSerializableAddressBook.convertPersons(persons, personList);
+        return personList;
+    }
+
+}
@@ -0,0 +1,45 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the manifest of a {@link ShardedAddressBookStorage}, naming the file that holds
+ * each shard. Shard files are never overwritten, so replacing the manifest switches to a new set of shards at once.
+ */
+class JsonSerializableShardManifest {
+
+    private final long generation;
+    private final List<String> shards = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableShardManifest} of the given save {@code generation} and shard file names.
+     */
+    @JsonCreator
+    public JsonSerializableShardManifest(@JsonProperty("generation") long generation,
+            @JsonProperty("shards") List<String> shards) {
+        this.generation = generation;
+        if (shards != null) {
+            this.shards.addAll(shards);
+        }
+    }
+
+    /**
+     * Returns the number of saves the shard files were written over, which makes the names of new shard files
+     * distinct from those in use.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the names of the shard files, relative to the manifest, indexed by shard.
+     */
+    public List<String> getShards() {
+        return shards;
+    }
+
+}
@@ -14,6 +14,9 @@ import seedu.address.model.UserPrefs;
  */
 public class JsonUserPrefsStorage implements UserPrefsStorage {
 
+    /** The number of previous versions of the preferences file kept. */
+    public static final int BACKUP_GENERATIONS = 1;
+
     private Path filePath;
 
     public JsonUserPrefsStorage(Path filePath) {
@@ -41,7 +44,7 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
 
     @Override
     public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
-        JsonUtil.saveJsonFile(userPrefs, filePath);
+        JsonUtil.saveJsonFileAtomically(userPrefs, filePath, BACKUP_GENERATIONS);
     }
 
 }
@@ -0,0 +1,44 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Maps files into memory for reading, so that they can be decoded without first being copied onto the heap.
+ *
+ * The JDK has no supported way to release a mapping before its buffer is garbage collected, so each mapping is
+ * left to the garbage collector, and nothing decoded from a buffer may refer back to it. A file that is still
+ * mapped can be replaced on Linux and macOS, but not on Windows, where files should be read onto the heap instead.
+ */
+final class MappedFile {
+
+    private MappedFile() {}
+
+    /**
+     * Maps the whole file at {@code filePath} into memory for reading.
+     *
+     * @throws IOException if the file cannot be read, or is too large to be mapped into one buffer.
+     */
+    static ByteBuffer map(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File is too large to be mapped into memory: " + size + " bytes");
+            }
+            // the mapping stays valid once the channel is closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    /**
+     * Returns true if files can be replaced while they are mapped on this platform, i.e. if it is not Windows,
+     * which keeps a mapped file locked until its buffer has been garbage collected.
+     */
+    static boolean canReplaceWhileMapped() {
+        return !System.getProperty("os.name", "").startsWith("Windows");
+    }
+
+}
@@ -0,0 +1,393 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.TrackedAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * The ranks the persons of a contact book were last saved with, by position, for storages that save each person
+ * apart from the others with a rank that orders it among them, and that only write the persons changed since.
+ * Ranks are spaced apart, so that persons can be put between others without ranking them anew.
+ *
+ * Each person is saved in a partition, e.g. a shard, given by a function of the person. The ranking is brought up
+ * to date with a contact book by replaying the changes made to it since it was saved, if they are known, so that
+ * saving a few changes costs little more than those changes; otherwise the persons are compared with those saved
+ * by identity. Either way, the ranks of the longest run of saved persons still in order are kept.
+ */
+class PersonRanking {
+
+    /** The gap left between the ranks of neighbouring persons, so that persons can be put between them. */
+    static final long RANK_SPACING = 1L << 20;
+
+    /** Stands for a person with no rank yet; never the rank of a person. */
+    private static final long UNRANKED = Long.MIN_VALUE;
+
+    private final ToIntFunction<Person> partitioner;
+
+    /** The ranks and partitions of the persons saved, by position, in arrays that may have room to spare. */
+    private long[] ranks;
+    private int[] partitions;
+    private int size;
+
+    /** The persons saved, in a list that does not change afterwards, to compare with when the changes are unknown. */
+    private List<Person> persons;
+
+    /** The contact book whose changes lead on from the persons saved, or null if they cannot be known. */
+    private AddressBook savedOrigin;
+    private long savedVersion;
+
+    private PersonRanking(List<Person> persons, long[] ranks, ToIntFunction<Person> partitioner) {
+        this.persons = persons;
+        this.ranks = ranks;
+        this.partitions = new int[ranks.length];
+        this.size = ranks.length;
+        this.partitioner = partitioner;
+        for (int i = 0; i < size; i++) {
+            partitions[i] = partitioner.applyAsInt(persons.get(i));
+        }
+    }
+
+    /**
+     * Returns the ranking of {@code persons}, which must not change afterwards, with the given {@code ranks},
+     * in the same order, where {@code partitioner} gives the partition each person is saved in.
+     */
+    static PersonRanking of(List<Person> persons, long[] ranks, ToIntFunction<Person> partitioner) {
+        requireNonNull(persons);
+        requireNonNull(partitioner);
+        assert persons.size() == ranks.length;
+        return new PersonRanking(persons, ranks.clone(), partitioner);
+    }
+
+    /**
+     * Returns the ranking of the persons of {@code addressBook} ranked anew by position, as saved with every
+     * partition rewritten.
+     */
+    static PersonRanking rankAll(ReadOnlyAddressBook addressBook, ToIntFunction<Person> partitioner) {
+        requireNonNull(partitioner);
+        List<Person> persons = getUnchangingPersonList(addressBook);
+        long[] ranks = new long[persons.size()];
+        for (int i = 0; i < ranks.length; i++) {
+            ranks[i] = i * RANK_SPACING;
+        }
+        PersonRanking ranking = new PersonRanking(persons, ranks, partitioner);
+        ranking.adopt(addressBook);
+        return ranking;
+    }
+
+    /**
+     * Returns the rank of the person at {@code position} in the contact book last ranked.
+     */
+    long getRank(int position) {
+        assert position >= 0 && position < size;
+        return ranks[position];
+    }
+
+    /**
+     * Notes that {@code addressBook} holds the very persons ranked, if it does and is a {@link TrackedAddressBook},
+     * e.g. the contact book just read, so that the next update replays the changes made to it since.
+     */
+    void markSaved(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        Iterator<Person> saved = persons.iterator();
+        for (Person person : addressBook.getPersonList()) {
+            if (!saved.hasNext() || saved.next() != person) {
+                return;
+            }
+        }
+        if (!saved.hasNext()) {
+            adopt(addressBook);
+        }
+    }
+
+    /**
+     * Notes that the persons ranked are those of {@code addressBook}.
+     */
+    private void adopt(ReadOnlyAddressBook addressBook) {
+        persons = getUnchangingPersonList(addressBook);
+        if (addressBook instanceof TrackedAddressBook) {
+            savedOrigin = ((TrackedAddressBook) addressBook).getOrigin();
+            savedVersion = ((TrackedAddressBook) addressBook).getVersion();
+        } else {
+            savedOrigin = null;
+        }
+    }
+
+    /**
+     * Brings the ranking up to date with {@code addressBook}, keeping the saved ranks of the longest run of persons
+     * still in order and ranking the others evenly in the gaps between them, and returns what must be written to
+     * save it. Returns {@code Optional.empty()} if none of the saved ranks can be kept, or there is no room between
+     * the kept ranks, in which case this ranking is left unusable and every person must be ranked anew.
+     */
+    Optional<Rewrite> update(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        Optional<List<AddressBookChange>> changes = getChangesSinceSaved(addressBook);
+        BitSet dirtyPartitions = new BitSet();
+        LongStream.Builder staleRanks = LongStream.builder();
+        if (changes.isPresent() && changes.get().stream()
+                .noneMatch(change -> change.getKind() == AddressBookChange.Kind.RESET)) {
+            for (AddressBookChange change : changes.get()) {
+                apply(change, dirtyPartitions, staleRanks);
+            }
+            assert size == addressBook.getPersonList().size();
+        } else {
+            compareWith(addressBook.getPersonList(), dirtyPartitions, staleRanks);
+        }
+
+        int[] changedPositions = IntStream.range(0, size).filter(i -> ranks[i] == UNRANKED).toArray();
+        if (size > 0 && changedPositions.length == size || !fillGaps()) {
+            return Optional.empty();
+        }
+        adopt(addressBook);
+        return Optional.of(new Rewrite(changedPositions, staleRanks.build().toArray(), dirtyPartitions));
+    }
+
+    private Optional<List<AddressBookChange>> getChangesSinceSaved(ReadOnlyAddressBook addressBook) {
+        if (!(addressBook instanceof TrackedAddressBook)
+                || ((TrackedAddressBook) addressBook).getOrigin() != savedOrigin) {
+            return Optional.empty();
+        }
+        return ((TrackedAddressBook) addressBook).getChangesSince(savedVersion);
+    }
+
+    /**
+     * Applies {@code change} to the ranks, leaving the persons it put in place unranked and noting the ranks and
+     * partitions it left stale.
+     */
+    private void apply(AddressBookChange change, BitSet dirtyPartitions, LongStream.Builder staleRanks) {
+        int index = change.getIndex();
+        switch (change.getKind()) {
+        case ADD:
+            if (size == ranks.length) {
+                ranks = Arrays.copyOf(ranks, Math.max(16, size * 2));
+                partitions = Arrays.copyOf(partitions, ranks.length);
+            }
+            System.arraycopy(ranks, index, ranks, index + 1, size - index);
+            System.arraycopy(partitions, index, partitions, index + 1, size - index);
+            size++;
+            ranks[index] = UNRANKED;
+            partitions[index] = partitioner.applyAsInt(change.getPerson().get());
+            dirtyPartitions.set(partitions[index]);
+            break;
+        case SET:
+            unrank(index, dirtyPartitions, staleRanks);
+            partitions[index] = partitioner.applyAsInt(change.getPerson().get());
+            dirtyPartitions.set(partitions[index]);
+            break;
+        case REMOVE:
+            unrank(index, dirtyPartitions, staleRanks);
+            System.arraycopy(ranks, index + 1, ranks, index, size - index - 1);
+            System.arraycopy(partitions, index + 1, partitions, index, size - index - 1);
+            size--;
+            break;
+        case REORDER:
+            int[] order = change.getOrder().get();
+            long[] reorderedRanks = new long[ranks.length];
+            int[] reorderedPartitions = new int[ranks.length];
+            for (int i = 0; i < size; i++) {
+                reorderedRanks[i] = ranks[order[i]];
+                reorderedPartitions[i] = partitions[order[i]];
+            }
+            ranks = reorderedRanks;
+            partitions = reorderedPartitions;
+            boolean[] isKept = getLongestIncreasingRun(ranks, size);
+            for (int i = 0; i < size; i++) {
+                if (!isKept[i]) {
+                    unrank(i, dirtyPartitions, staleRanks);
+                }
+            }
+            break;
+        default:
+            throw new AssertionError("Unexpected change: " + change);
+        }
+    }
+
+    /**
+     * Leaves the person at {@code position} unranked, noting its saved rank and partition as stale if it had one.
+     */
+    private void unrank(int position, BitSet dirtyPartitions, LongStream.Builder staleRanks) {
+        if (ranks[position] != UNRANKED) {
+            staleRanks.add(ranks[position]);
+            dirtyPartitions.set(partitions[position]);
+            ranks[position] = UNRANKED;
+        }
+    }
+
+    /**
+     * Ranks {@code newPersons} by comparing them with the persons saved, by identity, when the changes made since
+     * are not known.
+     */
+    private void compareWith(List<Person> newPersons, BitSet dirtyPartitions, LongStream.Builder staleRanks) {
+        Map<Person, Integer> savedPositions = new IdentityHashMap<>(size);
+        for (int i = 0; i < size; i++) {
+            savedPositions.put(persons.get(i), i);
+        }
+        // the saved ranks grow with the saved positions, so the longest run in order is that of the positions
+        long[] newRanks = new long[newPersons.size()];
+        int[] newPartitions = new int[newPersons.size()];
+        for (int i = 0; i < newRanks.length; i++) {
+            Integer savedPosition = savedPositions.remove(newPersons.get(i));
+            newRanks[i] = savedPosition == null ? UNRANKED : ranks[savedPosition];
+            newPartitions[i] = savedPosition == null
+                    ? partitioner.applyAsInt(newPersons.get(i))
+                    : partitions[savedPosition];
+        }
+        boolean[] isKept = getLongestIncreasingRun(newRanks, newRanks.length);
+        for (int i = 0; i < newRanks.length; i++) {
+            if (!isKept[i]) {
+                newRanks[i] = UNRANKED;
+                dirtyPartitions.set(newPartitions[i]);
+            }
+        }
+
+        // the saved persons not kept are stale, whether they are gone or ranked anew
+        LongStream.Builder keptRanks = LongStream.builder();
+        for (int i = 0; i < newRanks.length; i++) {
+            if (newRanks[i] != UNRANKED) {
+                keptRanks.add(newRanks[i]);
+            }
+        }
+        long[] kept = keptRanks.build().toArray();
+        for (int i = 0, k = 0; i < size; i++) {
+            if (k < kept.length && kept[k] == ranks[i]) {
+                k++;
+            } else {
+                staleRanks.add(ranks[i]);
+                dirtyPartitions.set(partitions[i]);
+            }
+        }
+
+        ranks = newRanks;
+        partitions = newPartitions;
+        size = newRanks.length;
+    }
+
+    /**
+     * Returns which of the first {@code length} ranks, leaving out the unranked, form a longest strictly increasing
+     * run, in O(n log n) time.
+     */
+    private static boolean[] getLongestIncreasingRun(long[] ranks, int length) {
+        // tails[k] is the position ending the run of length k + 1 with the lowest last rank found so far
+        int[] tails = new int[length];
+        int[] previous = new int[length];
+        int runLength = 0;
+        for (int i = 0; i < length; i++) {
+            if (ranks[i] == UNRANKED) {
+                continue;
+            }
+            int low = 0;
+            int high = runLength;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (ranks[tails[middle]] < ranks[i]) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            previous[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            runLength = Math.max(runLength, low + 1);
+        }
+
+        boolean[] isKept = new boolean[length];
+        for (int i = runLength > 0 ? tails[runLength - 1] : -1; i >= 0; i = previous[i]) {
+            isKept[i] = true;
+        }
+        return isKept;
+    }
+
+    /**
+     * Ranks the unranked persons evenly in the gaps between the ranked ones, of which there must be at least one.
+     * Returns false if there is no room in some gap.
+     */
+    private boolean fillGaps() {
+        for (int start = 0; start < size; start++) {
+            if (ranks[start] != UNRANKED) {
+                continue;
+            }
+            int end = start;
+            while (end < size && ranks[end] == UNRANKED) {
+                end++;
+            }
+            int runLength = end - start;
+            long lower = start == 0 ? ranks[end] - RANK_SPACING * (runLength + 1) : ranks[start - 1];
+            long upper = end == size ? ranks[start - 1] + RANK_SPACING * (runLength + 1) : ranks[end];
+            long step = (upper - lower) / (runLength + 1);
+            if (step < 1) {
+                return false;
+            }
+            for (int i = start; i < end; i++) {
+                ranks[i] = lower + step * (i - start + 1);
+            }
+            start = end;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the persons of {@code addressBook} in a list that later changes to it leave as it is.
+     */
+    private static List<Person> getUnchangingPersonList(ReadOnlyAddressBook addressBook) {
+        if (addressBook instanceof AddressBook) {
+            return ((AddressBook) addressBook).snapshot().getPersonList();
+        }
+        if (addressBook instanceof AddressBookSnapshot) {
+            return addressBook.getPersonList();
+        }
+        return new ArrayList<>(addressBook.getPersonList());
+    }
+
+    /**
+     * What must be written to bring the persons saved up to date with a contact book.
+     */
+    static class Rewrite {
+        private final int[] changedPositions;
+        private final long[] staleRanks;
+        private final BitSet dirtyPartitions;
+
+        Rewrite(int[] changedPositions, long[] staleRanks, BitSet dirtyPartitions) {
+            this.changedPositions = changedPositions;
+            this.staleRanks = staleRanks;
+            this.dirtyPartitions = dirtyPartitions;
+        }
+
+        /**
+         * Returns the positions of the persons ranked anew, in order, which must be written.
+         */
+        int[] getChangedPositions() {
+            return changedPositions;
+        }
+
+        /**
+         * Returns the ranks of the persons saved that are gone or ranked anew, which must be removed.
+         */
+        long[] getStaleRanks() {
+            return staleRanks;
+        }
+
+        /**
+         * Returns the partitions that gained or lost a person, or hold a person ranked anew.
+         */
+        BitSet getDirtyPartitions() {
+            return dirtyPartitions;
+        }
+    }
+
+}
@@ -0,0 +1,378 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.ValuePools;
+
+/**
+ * A class to access AddressBook data stored as a number of json shard files together with a manifest naming them.
+ *
+ * Persons are partitioned into shards by a stable hash of their identity, and each person is saved with a rank
+ * that orders it among the persons of every shard. Saving replays the changes made since the last save, or compares
+ * the persons with those saved by identity if the changes are not known, and rewrites only the shards that gained,
+ * lost or reordered a person, so that editing one person rewrites one shard instead of the whole contact book.
+ *
+ * Shard files are never overwritten: changed shards are written to new files, then the manifest is replaced
+ * atomically to name them, and only then are the files it no longer names deleted. A crash at any point leaves
+ * the manifest naming a complete set of shards. Loading reads the shards in parallel.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_SHARD_COUNT = 16;
+    public static final String SHARD_DIRECTORY_SUFFIX = ".shards";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String MESSAGE_DUPLICATE_RANK = "Shards have more than one person at rank %d";
+
+    private static final String SHARD_FILE_PREFIX = "shard-";
+    private static final String SHARD_FILE_SUFFIX = ".json";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int shardCount;
+
+    /** The ranks of the persons last saved or read, or null if the next save must rewrite every shard. */
+    private PersonRanking savedRanking;
+    private JsonSerializableShardManifest savedManifest;
+
+    public ShardedAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_SHARD_COUNT);
+    }
+
+    /**
+     * Creates a storage whose manifest is at {@code filePath}, which partitions persons into {@code shardCount}
+     * shards.
+     */
+    public ShardedAddressBookStorage(Path filePath, int shardCount) {
+        requireNonNull(filePath);
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be positive: " + shardCount);
+        }
+        this.filePath = filePath;
+        this.shardCount = shardCount;
+    }
+
+    /**
+     * Returns the path of the manifest of the shards kept next to the JSON data file at {@code jsonFilePath},
+     * in a directory with the same name but the shard directory suffix.
+     */
+    public static Path getManifestFilePath(Path jsonFilePath) {
+        return FileUtil.replaceExtension(jsonFilePath, SHARD_DIRECTORY_SUFFIX).resolve(MANIFEST_FILE_NAME);
+    }
+
+    /**
+     * Returns the shard {@code person} belongs in, out of {@code shardCount} shards.
+     * {@code String#hashCode} is specified by the language, so the shard is the same on every run.
+     */
+    static int getShard(Person person, int shardCount) {
+        return Math.floorMod(person.getIdentityKey().hashCode(), shardCount);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataLoadingException if loading the manifest or any of the shards failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return readAddressBook(filePath, AddressBookLoadListener.NONE);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, telling {@code listener} of the persons once every shard has been read,
+     * as the order of the persons is only known then.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBookProgressively(AddressBookLoadListener listener)
+            throws DataLoadingException {
+        return readAddressBook(filePath, listener);
+    }
+
+    private synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath,
+            AddressBookLoadListener listener) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<JsonSerializableShardManifest> manifest =
+                JsonUtil.readJsonFile(filePath, JsonSerializableShardManifest.class);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            List<RankedPerson> rankedPersons = readShards(filePath, manifest.get().getShards());
+            rankedPersons.sort(Comparator.comparingLong(rankedPerson -> rankedPerson.rank));
+            List<Person> personList = new ArrayList<>(rankedPersons.size());
+            for (int i = 0; i < rankedPersons.size(); i++) {
+                if (i > 0 && rankedPersons.get(i).rank == rankedPersons.get(i - 1).rank) {
+                    throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_RANK, rankedPersons.get(i).rank));
+                }
+                personList.add(rankedPersons.get(i).person);
+            }
+            listener.onPersonsRead(Collections.unmodifiableList(personList), 1);
+            AddressBook addressBook = JsonSerializableAddressBook.toAddressBook(personList);
+
+            if (filePath.equals(this.filePath)) {
+                // the next save only rewrites the shards changed since, if the persons are in their usual shards
+                boolean isPartitionedAlike = manifest.get().getShards().size() == shardCount
+                        && rankedPersons.stream().allMatch(rankedPerson -> rankedPerson.isInShard(shardCount));
+                long[] ranks = rankedPersons.stream().mapToLong(rankedPerson -> rankedPerson.rank).toArray();
+                savedRanking = isPartitionedAlike ? PersonRanking.of(personList, ranks, this::getShard) : null;
+                savedManifest = manifest.get();
+            }
+            logger.info("Read " + personList.size() + " persons from " + manifest.get().getShards().size()
+                    + " shards of " + filePath);
+            logger.info(ValuePools.getSavingsReport());
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            String cause = ive.getCause() == null ? "" : " (" + ive.getCause().getMessage() + ")";
+            logger.info("Illegal values found in the shards of " + filePath + ": " + ive.getMessage() + cause);
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading the shards of " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    /**
+     * Reads the shard files named {@code shardNames} next to the manifest at {@code manifestPath}, in parallel,
+     * converting the persons of each shard as it is read.
+     */
+    private static List<RankedPerson> readShards(Path manifestPath, List<String> shardNames)
+            throws IOException, IllegalValueException {
+        List<Callable<List<RankedPerson>>> tasks = new ArrayList<>();
+        for (int shard = 0; shard < shardNames.size(); shard++) {
+            Path shardPath = manifestPath.resolveSibling(shardNames.get(shard));
+            int shardIndex = shard;
+            tasks.add(() -> readShard(shardPath, shardIndex));
+        }
+
+        List<RankedPerson> rankedPersons = new ArrayList<>();
+        try {
+            for (Future<List<RankedPerson>> shard : ForkJoinPool.commonPool().invokeAll(tasks)) {
+                rankedPersons.addAll(shard.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading the shards", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IllegalValueException) {
+                throw (IllegalValueException) cause;
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof DataLoadingException && cause.getCause() instanceof IOException) {
+                throw (IOException) cause.getCause();
+            }
+            throw new IOException("Could not read a shard: " + cause, cause);
+        }
+        return rankedPersons;
+    }
+
+    private static List<RankedPerson> readShard(Path shardPath, int shardIndex)
+            throws DataLoadingException, IOException, IllegalValueException {
+        JsonSerializableShard shard = JsonUtil.readJsonFile(shardPath, JsonSerializableShard.class)
+                .orElseThrow(() -> new IOException("Shard file " + shardPath + " is missing"));
+        List<Person> persons = shard.toModelType();
+        List<RankedPerson> rankedPersons = new ArrayList<>(persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            rankedPersons.add(new RankedPerson(shard.getRanks().get(i), persons.get(i), shardIndex));
+        }
+        return rankedPersons;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a path other than this storage's own always writes every shard there.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        boolean isOwnFile = filePath.equals(this.filePath);
+        Optional<PersonRanking.Rewrite> rewrite = isOwnFile && savedRanking != null && savedManifest != null
+                ? savedRanking.update(addressBook)
+                : Optional.empty();
+        PersonRanking ranking = rewrite.isPresent() ? savedRanking : PersonRanking.rankAll(addressBook, this::getShard);
+        BitSet isDirty = rewrite.map(PersonRanking.Rewrite::getDirtyPartitions).orElse(null);
+        JsonSerializableShardManifest previous = rewrite.isPresent() ? savedManifest : null;
+        if (isOwnFile) {
+            // until the save succeeds, the shards may be part written, so the next save must rewrite them all
+            savedRanking = null;
+        }
+
+        JsonSerializableShardManifest manifest = writeShards(persons, ranking, isDirty, filePath, previous);
+        deleteUnusedShards(filePath, manifest);
+
+        if (isOwnFile) {
+            savedRanking = ranking;
+            savedManifest = manifest;
+        }
+    }
+
+    /**
+     * Notes that {@code addressBook} holds the persons just read from this storage's own shards, if it does,
+     * so that the next save only rewrites the shards changed since.
+     */
+    @Override
+    public synchronized void markSaved(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (savedRanking != null) {
+            savedRanking.markSaved(addressBook);
+        }
+    }
+
+    private int getShard(Person person) {
+        return getShard(person, shardCount);
+    }
+
+    /**
+     * Writes the dirty shards of {@code persons} to new shard files next to the manifest at {@code manifestPath},
+     * then replaces the manifest to name them, together with the files of the clean shards in {@code previous}.
+     *
+     * @param isDirty the shards to rewrite, or null if every shard is dirty.
+     * @param previous the manifest the clean shards are named in, or null if every shard is dirty.
+     * @return the new manifest.
+     */
+    private JsonSerializableShardManifest writeShards(List<Person> persons, PersonRanking ranking, BitSet isDirty,
+            Path manifestPath, JsonSerializableShardManifest previous) throws IOException {
+        List<List<Person>> shardPersons = new ArrayList<>(shardCount);
+        List<List<Long>> shardRanks = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            shardPersons.add(new ArrayList<>());
+            shardRanks.add(new ArrayList<>());
+        }
+        int i = 0;
+        for (Person person : persons) {
+            int shard = getShard(person);
+            if (isDirty == null || isDirty.get(shard)) {
+                shardPersons.get(shard).add(person);
+                shardRanks.get(shard).add(ranking.getRank(i));
+            }
+            i++;
+        }
+
+        long generation = (previous != null ? previous.getGeneration() : readGeneration(manifestPath)) + 1;
+        List<String> shardNames = new ArrayList<>(shardCount);
+        int rewrittenCount = 0;
+        for (int shard = 0; shard < shardCount; shard++) {
+            if (isDirty != null && !isDirty.get(shard)) {
+                shardNames.add(previous.getShards().get(shard));
+                continue;
+            }
+            String shardName = SHARD_FILE_PREFIX + shard + "-" + generation + SHARD_FILE_SUFFIX;
+            long[] rankArray = shardRanks.get(shard).stream().mapToLong(Long::longValue).toArray();
+            JsonUtil.saveJsonFileAtomically(new JsonSerializableShard(rankArray, shardPersons.get(shard)),
+                    manifestPath.resolveSibling(shardName), 0);
+            shardNames.add(shardName);
+            rewrittenCount++;
+        }
+
+        JsonSerializableShardManifest manifest = new JsonSerializableShardManifest(generation, shardNames);
+        JsonUtil.saveJsonFileAtomically(manifest, manifestPath, 0);
+        logger.fine("Rewrote " + rewrittenCount + " of " + shardCount + " shards of " + manifestPath);
+        return manifest;
+    }
+
+    /**
+     * Returns the generation of the manifest at {@code manifestPath}, or 0 if there is none that can be read.
+     */
+    private static long readGeneration(Path manifestPath) {
+        try {
+            return JsonUtil.readJsonFile(manifestPath, JsonSerializableShardManifest.class)
+                    .map(JsonSerializableShardManifest::getGeneration)
+                    .orElse(0L);
+        } catch (DataLoadingException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Deletes the shard files next to the manifest at {@code manifestPath} that {@code manifest} does not name,
+     * including any left behind by an interrupted save.
+     */
+    private static void deleteUnusedShards(Path manifestPath, JsonSerializableShardManifest manifest) {
+        Set<String> inUse = new HashSet<>(manifest.getShards());
+        try (Stream<Path> files = Files.list(manifestPath.toAbsolutePath().getParent())) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String fileName = file.getFileName().toString();
+                if (fileName.startsWith(SHARD_FILE_PREFIX) && fileName.endsWith(SHARD_FILE_SUFFIX)
+                        && !inUse.contains(fileName)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Could not delete unused shard files next to " + manifestPath + ": " + e);
+        }
+    }
+
+    /**
+     * A person read from a shard, with its rank.
+     */
+    private static class RankedPerson {
+        private final long rank;
+        private final Person person;
+        private final int shard;
+
+        RankedPerson(long rank, Person person, int shard) {
+            this.rank = rank;
+            this.person = person;
+            this.shard = shard;
+        }
+
+        /**
+         * Returns true if the person was read from the shard it belongs in, out of {@code shardCount} shards.
+         */
+        boolean isInShard(int shardCount) {
+            return getShard(person, shardCount) == shard;
+        }
+    }
+
+}
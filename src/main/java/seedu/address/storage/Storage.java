@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -29,4 +30,17 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Writes {@code addressBook} to a data file in {@code format}, kept next to the JSON data file at
+     * {@code jsonFilePath}, leaving the data file in use as it is.
+     *
+     * @return the path of the data file written.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    Path convertAddressBook(ReadOnlyAddressBook addressBook, DataFileFormat format, Path jsonFilePath)
+            throws IOException;
+
+    @Override
+    void close() throws IOException;
+
 }
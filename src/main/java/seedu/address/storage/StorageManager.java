@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -19,13 +20,53 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private final int compressionLevel;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage},
+     * which writes compressed data files at the default compression level.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, UserPrefs.DEFAULT_COMPRESSION_LEVEL);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage},
+     * which writes compressed data files at {@code compressionLevel}, from 0 to 9.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            int compressionLevel) {
+        if (!JsonAddressBookStorage.isValidCompressionLevel(compressionLevel)) {
+            throw new IllegalArgumentException("Compression level must be from 0 to 9: " + compressionLevel);
+        }
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.compressionLevel = compressionLevel;
+    }
+
+    /**
+     * Returns the storage for a contact book kept in {@code format}.
+     * A binary, compressed, sharded or database data file is kept next to the JSON data file at {@code jsonFilePath},
+     * which remains the format for exchanging contact books. A new database is created from the JSON data file.
+     *
+     * @param compressionLevel the gzip level of a compressed data file, from 0 to 9.
+     */
+    public static AddressBookStorage createAddressBookStorage(DataFileFormat format, Path jsonFilePath,
+            int compressionLevel) {
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath));
+        case COMPRESSED:
+            return new JsonAddressBookStorage(JsonAddressBookStorage.getCompressedFilePath(jsonFilePath),
+                    compressionLevel);
+        case DATABASE:
+            return new DatabaseAddressBookStorage(DatabaseAddressBookStorage.getDatabaseFilePath(jsonFilePath),
+                    jsonFilePath);
+        case SHARDED:
+            return new ShardedAddressBookStorage(ShardedAddressBookStorage.getManifestFilePath(jsonFilePath));
+        default:
+            return new JournaledAddressBookStorage(jsonFilePath);
+        }
     }
 
     // ================ UserPrefs methods ==============================
@@ -58,6 +99,13 @@ public class StorageManager implements Storage {
         return readAddressBook(addressBookStorage.getAddressBookFilePath());
     }
 
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBookProgressively(AddressBookLoadListener listener)
+            throws DataLoadingException {
+        logger.fine("Attempting to read data from file: " + addressBookStorage.getAddressBookFilePath());
+        return addressBookStorage.readAddressBookProgressively(listener);
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
@@ -75,4 +123,25 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void markSaved(ReadOnlyAddressBook addressBook) {
+        addressBookStorage.markSaved(addressBook);
+    }
+
+    @Override
+    public Path convertAddressBook(ReadOnlyAddressBook addressBook, DataFileFormat format, Path jsonFilePath)
+            throws IOException {
+        // a JSON data file is written as a new checkpoint, replacing any journal left from when it was last used
+        try (AddressBookStorage targetStorage = createAddressBookStorage(format, jsonFilePath, compressionLevel)) {
+            logger.fine("Attempting to convert data to file: " + targetStorage.getAddressBookFilePath());
+            targetStorage.saveAddressBook(addressBook);
+            return targetStorage.getAddressBookFilePath();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        addressBookStorage.close();
+    }
+
 }
@@ -3,6 +3,7 @@ package seedu.address.ui;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
@@ -13,16 +14,27 @@ import javafx.scene.layout.Region;
 public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
+    private static final String LOADING_FORMAT = "Loading contacts... %d%%";
 
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label loadStatus;
+
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} with the given {@code Path}, showing the progress of loading
+     * the contact book from {@code loadProgress} until it has loaded.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Path saveLocation, ObservableValue<Double> loadProgress) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        showLoadProgress(loadProgress.getValue());
+        loadProgress.addListener((observable, oldProgress, newProgress) -> showLoadProgress(newProgress));
+    }
+
+    private void showLoadProgress(double progress) {
+        loadStatus.setText(progress < 1 ? String.format(LOADING_FORMAT, (int) (progress * 100)) : "");
     }
 
 }
@@ -1,13 +1,26 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +33,90 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void replaceExtension() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                FileUtil.replaceExtension(Paths.get("data", "addressbook.json"), ".bin"));
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                FileUtil.replaceExtension(Paths.get("data", "addressbook"), ".bin"));
+        assertEquals(Paths.get("addressbook.backup.bin"),
+                FileUtil.replaceExtension(Paths.get("addressbook.backup.json"), ".bin"));
+        assertEquals(Paths.get(".addressbook.bin"), FileUtil.replaceExtension(Paths.get(".addressbook"), ".bin"));
+    }
+
+    @Test
+    public void writeToFileAtomically_missingFileAndDirectories_created() throws Exception {
+        Path file = testFolder.resolve("new").resolve("data.json");
+        FileUtil.writeToFileAtomically(file, "content", 2);
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getGenerationPath(file, 1)));
+    }
+
+    @Test
+    public void writeToFileAtomically_repeatedWrites_keepsGenerations() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        for (int i = 1; i <= 4; i++) {
+            FileUtil.writeToFileAtomically(file, "version " + i, 2);
+        }
+
+        assertEquals("version 4", FileUtil.readFromFile(file));
+        assertEquals("version 3", FileUtil.readFromFile(FileUtil.getGenerationPath(file, 1)));
+        assertEquals("version 2", FileUtil.readFromFile(FileUtil.getGenerationPath(file, 2)));
+        assertFalse(Files.exists(FileUtil.getGenerationPath(file, 3)));
+
+        // no temporary files are left behind
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(3, files.count());
+        }
+    }
+
+    @Test
+    public void writeToFileAtomically_noGenerations_replacesFileOnly() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFileAtomically(file, "old", 0);
+        FileUtil.writeToFileAtomically(file, "new", 0);
+        assertEquals("new", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void writeToFileAtomically_newestGeneration_unaffectedByLaterWrites() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFileAtomically(file, "first", 1);
+        FileUtil.writeToFileAtomically(file, "second", 1);
+        FileUtil.writeToFileAtomically(file, "third", 1);
+        assertEquals("second", FileUtil.readFromFile(FileUtil.getGenerationPath(file, 1)));
+    }
+
+    @Test
+    public void gzipped_compressibleContent_readBackDecompressed() throws Exception {
+        Path file = testFolder.resolve("data.json.gz");
+        String content = "repeated content ".repeat(1000);
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        FileUtil.writeToFileAtomically(file, FileUtil.gzipped(out -> out.write(bytes), 9), 0);
+
+        assertTrue(Files.size(file) < bytes.length);
+        assertEquals(bytes.length, FileUtil.getDecompressedSize(file));
+        try (InputStream in = FileUtil.decompressIfGzipped(Files.newInputStream(file))) {
+            assertEquals(content, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void decompressIfGzipped_plainContent_readUnchanged() throws Exception {
+        byte[] bytes = "{ \"persons\" : [ ] }".getBytes(StandardCharsets.UTF_8);
+        try (InputStream in = FileUtil.decompressIfGzipped(new ByteArrayInputStream(bytes))) {
+            assertEquals("{ \"persons\" : [ ] }", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        try (InputStream in = FileUtil.decompressIfGzipped(new ByteArrayInputStream(new byte[0]))) {
+            assertEquals(0, in.readAllBytes().length);
+        }
+
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "plain");
+        assertEquals(5, FileUtil.getDecompressedSize(file));
+    }
+
 }
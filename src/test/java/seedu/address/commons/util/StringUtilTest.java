@@ -1,6 +1,8 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -123,6 +125,24 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_validInputs_correctResult() {
+        assertEquals("", StringUtil.foldCase(""));
+        assertEquals("alice bob", StringUtil.foldCase("Alice BOB"));
+        assertEquals("abc 123", StringUtil.foldCase("abc 123"));
+
+        // folded forms are equal exactly when the strings are equal ignoring case
+        assertEquals(StringUtil.foldCase("aLiCe"), StringUtil.foldCase("AlIcE"));
+        assertNotEquals(StringUtil.foldCase("alice"), StringUtil.foldCase("alicia"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,67 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.beans.property.SimpleObjectProperty;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Person;
+
+public class AddressBookLoaderTest {
+
+    private final Model model = new ModelManager();
+    private final SimpleObjectProperty<Double> progress = new SimpleObjectProperty<>(0.0);
+    private final AddressBookLoader loader = new AddressBookLoader(model, progress, Runnable::run);
+
+    @Test
+    public void load_personsReadInBatches_publishedAsTheyDoubleThenWholeBook() {
+        List<Person> persons = getTypicalPersons();
+        loader.load(listener -> {
+            listener.onPersonsRead(persons.subList(0, 2), 0.2);
+            assertEquals(persons.subList(0, 2), model.getFilteredPersonList());
+            assertEquals(0.2, progress.get().doubleValue());
+
+            listener.onPersonsRead(persons.subList(0, 3), 0.3);
+            assertEquals(persons.subList(0, 2), model.getFilteredPersonList());
+
+            listener.onPersonsRead(persons.subList(0, 4), 0.4);
+            assertEquals(persons.subList(0, 4), model.getFilteredPersonList());
+            assertFalse(loader.isLoaded());
+            return getTypicalAddressBook();
+        });
+
+        assertTrue(loader.isLoaded());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertEquals(1.0, progress.get().doubleValue());
+    }
+
+    @Test
+    public void load_duplicatesReadSoFar_notPublished() {
+        loader.load(listener -> {
+            listener.onPersonsRead(List.of(ALICE, ALICE), 0.5);
+            assertEquals(new AddressBook(), model.getAddressBook());
+            return getTypicalAddressBook();
+        });
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void load_readingFails_neverLoaded() {
+        loader.load(listener -> {
+            throw new IllegalStateException("reading failed");
+        });
+        assertFalse(loader.isLoaded());
+        assertTrue(loader.hasFailed());
+    }
+
+}
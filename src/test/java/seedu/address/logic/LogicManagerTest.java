@@ -1,7 +1,11 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_ADDRESS_BOOK_LOADING;
+import static seedu.address.logic.Messages.MESSAGE_ADDRESS_BOOK_LOAD_FAILED;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_INFO;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.COMPANY_DESC_AMY;
@@ -10,26 +14,42 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.exceptions.EndOfCommandHistoryException;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ConvertCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.storage.BackgroundAddressBookSaver;
+import seedu.address.storage.BinaryAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -54,6 +74,78 @@ public class LogicManagerTest {
         logic = new LogicManager(model, storage);
     }
 
+    @Test
+    public void execute_whileLoading_onlyCommandsNotNeedingWholeBookExecuted() throws Exception {
+        BlockingQueue<Runnable> modelTasks = new LinkedBlockingQueue<>();
+        logic.loadAddressBook(listener -> getTypicalAddressBook(), modelTasks::add);
+        Runnable finishLoading = modelTasks.take();
+
+        assertCommandException(ListCommand.COMMAND_WORD, MESSAGE_ADDRESS_BOOK_LOADING);
+        assertEquals(HelpCommand.SHOWING_HELP_MESSAGE, logic.execute(HelpCommand.COMMAND_WORD).getFeedbackToUser());
+        assertEquals(0.0, logic.getLoadProgress().getValue().doubleValue());
+
+        finishLoading.run();
+        assertEquals(1.0, logic.getLoadProgress().getValue().doubleValue());
+        assertEquals(getTypicalAddressBook(), logic.getAddressBook());
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_exitWhileLoading_partlyLoadedBookNotSaved() throws Exception {
+        BlockingQueue<Runnable> modelTasks = new LinkedBlockingQueue<>();
+        logic.loadAddressBook(listener -> {
+            listener.onPersonsRead(getTypicalPersons().subList(0, 2), 0.3);
+            return getTypicalAddressBook();
+        }, modelTasks::add);
+        // the progress, then the persons read so far
+        modelTasks.take().run();
+        modelTasks.take().run();
+        assertEquals(getTypicalPersons().subList(0, 2), logic.getFilteredPersonList());
+
+        logic.execute(ExitCommand.COMMAND_WORD);
+        assertEquals(0, logic.getSaveStatistics().getSaveCount());
+        assertFalse(Files.exists(temporaryFolder.resolve("fastcard.json")));
+
+        // the whole contact book was read from the data file, so it is saved only once changed
+        modelTasks.take().run();
+        logic.execute(ExitCommand.COMMAND_WORD);
+        assertEquals(0, logic.getSaveStatistics().getSaveCount());
+        logic.execute(DeleteCommand.COMMAND_WORD + " 1");
+        assertEquals(1, logic.getSaveStatistics().getSaveCount());
+    }
+
+    @Test
+    public void execute_afterLoadingInsteadOfDataFile_firstCommandSaves() throws Exception {
+        BlockingQueue<Runnable> modelTasks = new LinkedBlockingQueue<>();
+        logic.loadAddressBook(listener -> {
+            listener.onDataFileNotRead();
+            return getTypicalAddressBook();
+        }, modelTasks::add);
+        modelTasks.take().run();
+
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        assertEquals(1, logic.getSaveStatistics().getSaveCount());
+        assertTrue(Files.exists(temporaryFolder.resolve("fastcard.json")));
+    }
+
+    @Test
+    public void execute_exitAfterLoadingFailed_partlyLoadedBookNotSaved() throws Exception {
+        BlockingQueue<Runnable> modelTasks = new LinkedBlockingQueue<>();
+        logic.loadAddressBook(listener -> {
+            listener.onPersonsRead(getTypicalPersons().subList(0, 2), 0.3);
+            throw new IllegalStateException("reading failed");
+        }, modelTasks::add);
+        // the progress, the persons read so far, then the failure
+        for (int i = 0; i < 3; i++) {
+            modelTasks.take().run();
+        }
+
+        assertCommandException(ListCommand.COMMAND_WORD, MESSAGE_ADDRESS_BOOK_LOAD_FAILED);
+        logic.execute(ExitCommand.COMMAND_WORD);
+        assertEquals(0, logic.getSaveStatistics().getSaveCount());
+        assertFalse(Files.exists(temporaryFolder.resolve("fastcard.json")));
+    }
+
     @Test
     public void execute_invalidCommandFormat_throwsParseException() {
         String invalidCommand = "uicfhmowqewca";
@@ -84,6 +176,108 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommands_skipSave() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, logic.getSaveStatistics().getSaveCount());
+
+        // the contact book is unchanged since the last save
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, logic.getSaveStatistics().getSaveCount());
+        assertEquals(2, logic.getSaveStatistics().getSkipCount());
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + COMPANY_DESC_AMY);
+        assertEquals(2, logic.getSaveStatistics().getSaveCount());
+        assertTrue(Files.exists(temporaryFolder.resolve("fastcard.json")));
+    }
+
+    @Test
+    public void execute_saveFailed_savesAgainOnNextCommand() {
+        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+                LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
+        assertThrows(CommandException.class, () -> logic.execute(ListCommand.COMMAND_WORD));
+        assertEquals(0, logic.getSaveStatistics().getSaveCount());
+        assertEquals(0, logic.getSaveStatistics().getSkipCount());
+    }
+
+    @Test
+    public void execute_backgroundSaveFails_failureHandlerGivenMessage() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("a.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw DUMMY_AD_EXCEPTION;
+            }
+        };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage);
+        logic = new LogicManager(model, storage, saver);
+        List<String> messages = new ArrayList<>();
+        logic.setSaveFailureHandler(messages::add);
+
+        // the command succeeds, and the failure is reported once the save is done
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertThrows(IOException.class, saver::flush);
+        assertEquals(Collections.singletonList(String.format(
+                LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage())), messages);
+
+        // the failed save is retried after the next command
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, logic.getSaveStatistics().getSaveCount());
+    }
+
+    @Test
+    public void execute_backgroundSaver_savesSnapshot() throws Exception {
+        Path filePath = temporaryFolder.resolve("background.json");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage);
+        logic = new LogicManager(model, storage, saver);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + COMPANY_DESC_AMY);
+        saver.close();
+        assertEquals(model.getAddressBook(), new AddressBook(storage.readAddressBook(filePath).get()));
+    }
+
+    @Test
+    public void execute_convert_dataFileWrittenByStorage() throws Exception {
+        Path jsonFilePath = temporaryFolder.resolve("addressbook.json");
+        Path binaryFilePath = temporaryFolder.resolve("addressbook.bin");
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(jsonFilePath);
+        model = new ModelManager(getTypicalAddressBook(), userPrefs);
+        setUp();
+
+        assertCommandSuccess(ConvertCommand.COMMAND_WORD + " binary",
+                String.format(ConvertCommand.MESSAGE_SUCCESS, "binary", binaryFilePath), model);
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(binaryFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_convertWithBackgroundSaver_resultPassedToHandler() throws Exception {
+        Path jsonFilePath = temporaryFolder.resolve("addressbook.json");
+        Path binaryFilePath = temporaryFolder.resolve("addressbook.bin");
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(jsonFilePath);
+        model = new ModelManager(getTypicalAddressBook(), userPrefs);
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(jsonFilePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage);
+        logic = new LogicManager(model, storage, saver);
+        BlockingQueue<String> results = new LinkedBlockingQueue<>();
+        logic.setConversionResultHandler(results::add);
+
+        // the command only starts the conversion, which is done on the saver's thread before it closes
+        CommandResult result = logic.execute(ConvertCommand.COMMAND_WORD + " binary");
+        assertEquals(String.format(ConvertCommand.MESSAGE_CONVERTING, "binary"), result.getFeedbackToUser());
+        saver.close();
+        assertEquals(String.format(ConvertCommand.MESSAGE_SUCCESS, "binary", binaryFilePath), results.poll());
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(binaryFilePath).readAddressBook().get()));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -10,7 +10,9 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -24,7 +26,9 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -161,16 +165,71 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void resetAddressBook(ReadOnlyAddressBook newData) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyAddressBook getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean hasEmail(Email email) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsWithAnyTag(Collection<Tag> tags) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int countPersonsWithAnyTag(Collection<Tag> tags) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Person> getAnyTagFilter(Collection<Tag> tags) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsWithAnyCompanyToken(Collection<String> tokens) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int countPersonsWithAnyCompanyToken(Collection<String> tokens) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getNameSubstringCandidates(String keyword) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int countNameSubstringCandidates(String keyword) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(Person target) {
             throw new AssertionError("This method should not be called.");
@@ -206,6 +265,31 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isUndoEnabled() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         public void saveNewCommand(String newCommand) {
             throw new AssertionError("This method should not be called");
         }
@@ -240,6 +324,12 @@ public class AddCommandTest {
             return this.person.isSamePerson(person);
         }
 
+        @Override
+        public boolean hasEmail(Email email) {
+            requireNonNull(email);
+            return addressBook.hasEmail(email);
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             return addressBook;
@@ -258,6 +348,11 @@ public class AddCommandTest {
             return false;
         }
 
+        @Override
+        public boolean hasEmail(Email email) {
+            return addressBook.hasEmail(email);
+        }
+
         @Override
         public void addPerson(Person person) {
             addressBook.addPerson(person);
@@ -281,6 +376,12 @@ public class AddCommandTest {
             return personsAdded.stream().anyMatch(person::isSamePerson);
         }
 
+        @Override
+        public boolean hasEmail(Email email) {
+            requireNonNull(email);
+            return false;
+        }
+
         @Override
         public void addPerson(Person person) {
             requireNonNull(person);
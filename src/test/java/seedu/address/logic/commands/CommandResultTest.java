@@ -5,8 +5,12 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.DataFileFormat;
+
 public class CommandResultTest {
     @Test
     public void equals() {
@@ -33,6 +37,16 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true, false, -1)));
+
+        // different format to convert to -> returns false
+        assertFalse(commandResult.equals(CommandResult.convertTo("feedback", DataFileFormat.BINARY)));
+    }
+
+    @Test
+    public void convertTo() {
+        assertEquals(Optional.empty(), new CommandResult("feedback").getFormatToConvertTo());
+        assertEquals(Optional.of(DataFileFormat.BINARY),
+                CommandResult.convertTo("feedback", DataFileFormat.BINARY).getFormatToConvertTo());
     }
 
     @Test
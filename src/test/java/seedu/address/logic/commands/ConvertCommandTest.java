@@ -0,0 +1,58 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class ConvertCommandTest {
+
+    private static final Path JSON_FILE_PATH = Paths.get("data", "addressbook.json");
+
+    @Test
+    public void execute_otherFormat_conversionRequested() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), getUserPrefs(DataFileFormat.JSON));
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), getUserPrefs(DataFileFormat.JSON));
+
+        CommandResult result = new ConvertCommand(DataFileFormat.BINARY).execute(model);
+        assertEquals(String.format(ConvertCommand.MESSAGE_CONVERTING, "binary"), result.getFeedbackToUser());
+        assertEquals(Optional.of(DataFileFormat.BINARY), result.getFormatToConvertTo());
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void execute_formatInUse_throwsCommandException() {
+        Model model = new ModelManager(getTypicalAddressBook(), getUserPrefs(DataFileFormat.JSON));
+        assertCommandFailure(new ConvertCommand(DataFileFormat.JSON), model,
+                String.format(ConvertCommand.MESSAGE_SAME_FORMAT, "json"));
+    }
+
+    @Test
+    public void equals() {
+        ConvertCommand toBinary = new ConvertCommand(DataFileFormat.BINARY);
+        assertTrue(toBinary.equals(toBinary));
+        assertTrue(toBinary.equals(new ConvertCommand(DataFileFormat.BINARY)));
+        assertFalse(toBinary.equals(new ConvertCommand(DataFileFormat.JSON)));
+        assertFalse(toBinary.equals(null));
+        assertFalse(toBinary.equals(1));
+    }
+
+    private static UserPrefs getUserPrefs(DataFileFormat format) {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(JSON_FILE_PATH);
+        userPrefs.setDataFileFormat(format);
+        return userPrefs;
+    }
+}
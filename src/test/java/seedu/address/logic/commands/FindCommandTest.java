@@ -10,6 +10,8 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
@@ -18,6 +20,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameOrCompanyPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Integration tests (interaction with the Model) for {@code FindCommand}.
@@ -132,6 +136,36 @@ public class FindCommandTest {
         assertTrue(model.getFilteredPersonList().isEmpty());
     }
 
+    @Test
+    public void execute_companyKeywordAfterEdit_usesUpdatedCompany() {
+        Model modelWithEdit = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Person editedAlice = new PersonBuilder(ALICE).withCompany("Amazon Web Services").build();
+        modelWithEdit.setPerson(ALICE, editedAlice);
+
+        new FindCommand(new NameOrCompanyPredicate(Optional.empty(), Optional.of("amazon"))).execute(modelWithEdit);
+        assertEquals(Arrays.asList(editedAlice, CARL), modelWithEdit.getFilteredPersonList());
+
+        new FindCommand(new NameOrCompanyPredicate(Optional.of("al"), Optional.of("google web")))
+                .execute(modelWithEdit);
+        assertEquals(Arrays.asList(editedAlice), modelWithEdit.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_indexedSearch_sameResultAsPredicate() {
+        List<Optional<String>> nameKeywords = Arrays.asList(Optional.empty(), Optional.of("e"),
+                Optional.of("er"), Optional.of("ell"), Optional.of("ALICE PAU"), Optional.of("zzz"));
+        List<Optional<String>> companyKeywords = Arrays.asList(Optional.empty(), Optional.of("google"),
+                Optional.of("AMAZON meta"), Optional.of("goo"));
+        for (Optional<String> nameKeyword : nameKeywords) {
+            for (Optional<String> companyKeyword : companyKeywords) {
+                NameOrCompanyPredicate predicate = new NameOrCompanyPredicate(nameKeyword, companyKeyword);
+                new FindCommand(predicate).execute(model);
+                expectedModel.updateFilteredPersonList(predicate);
+                assertEquals(expectedModel.getFilteredPersonList(), model.getFilteredPersonList());
+            }
+        }
+    }
+
     @Test
     public void toStringMethod() {
         NameOrCompanyPredicate predicate =
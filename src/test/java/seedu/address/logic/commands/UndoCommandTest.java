@@ -0,0 +1,50 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class UndoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noChange_throwsCommandException() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_undoTurnedOff_throwsCommandException() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryMegabytes(0);
+        Model undoOffModel = new ModelManager(getTypicalAddressBook(), userPrefs);
+        undoOffModel.deletePerson(undoOffModel.getFilteredPersonList().get(1));
+
+        assertCommandFailure(new UndoCommand(), undoOffModel, UndoCommand.MESSAGE_DISABLED);
+    }
+
+    @Test
+    public void execute_afterDelete_personRestored() {
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.deletePerson(model.getFilteredPersonList().get(1));
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_afterClear_contactBookRestored() {
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.setAddressBook(new AddressBook());
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+}
@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.logic.commands.ConvertCommand;
+
+public class ConvertCommandParserTest {
+
+    private ConvertCommandParser parser = new ConvertCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsConvertCommand() {
+        assertParseSuccess(parser, " binary", new ConvertCommand(DataFileFormat.BINARY));
+        assertParseSuccess(parser, " compressed", new ConvertCommand(DataFileFormat.COMPRESSED));
+        assertParseSuccess(parser, "sharded", new ConvertCommand(DataFileFormat.SHARDED));
+        assertParseSuccess(parser, "Database", new ConvertCommand(DataFileFormat.DATABASE));
+        assertParseSuccess(parser, " \n JSON \t", new ConvertCommand(DataFileFormat.JSON));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ConvertCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " csv", expectedMessage);
+        assertParseFailure(parser, " binary json", expectedMessage);
+    }
+}
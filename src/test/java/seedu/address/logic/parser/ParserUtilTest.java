@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -146,6 +147,11 @@ public class ParserUtilTest {
         assertEquals(expectedCompany, ParserUtil.parseCompany(companyWithWhitespace));
     }
 
+    @Test
+    public void parseCompany_sameValueTwice_returnsSharedInstance() throws Exception {
+        assertSame(ParserUtil.parseCompany(VALID_COMPANY), ParserUtil.parseCompany(WHITESPACE + VALID_COMPANY));
+    }
+
     @Test
     public void parseEmail_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseEmail((String) null));
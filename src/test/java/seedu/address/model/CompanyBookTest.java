@@ -1,25 +1,37 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_COMPANY_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class CompanyBookTest {
@@ -54,6 +66,26 @@ public class CompanyBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void constructor_personList_loadsPersonsInOrderWithSingleChange() {
+        List<Person> persons = getTypicalAddressBook().getPersonList();
+        AddressBook loaded = new AddressBook(persons);
+        assertEquals(persons, loaded.getPersonList());
+        assertTrue(loaded.hasEmail(ALICE.getEmail()));
+
+        int[] changeCount = {0};
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+        addressBook.setPersons(persons);
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void constructor_personListWithDuplicates_throwsDuplicatePersonException() {
+        Person editedAlice = new PersonBuilder(ALICE).withCompany(VALID_COMPANY_BOB).build();
+        assertThrows(DuplicatePersonException.class, new DuplicatePersonException(editedAlice).getMessage(), ()
+            -> new AddressBook(Arrays.asList(ALICE, editedAlice)));
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -78,11 +110,244 @@ public class CompanyBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void hasEmail_emailNotInAddressBook_returnsFalse() {
+        assertFalse(addressBook.hasEmail(ALICE.getEmail()));
+    }
+
+    @Test
+    public void hasEmail_emailInAddressBook_returnsTrue() {
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.hasEmail(ALICE.getEmail()));
+        assertEquals(Optional.of(ALICE), addressBook.findByEmail(ALICE.getEmail()));
+    }
+
+    @Test
+    public void hasEmail_placeholderEmail_returnsFalse() {
+        Person personWithPlaceholder = new PersonBuilder(ALICE).withEmail(Email.PLACEHOLDER_EMAIL).build();
+        addressBook.addPerson(personWithPlaceholder);
+        assertFalse(addressBook.hasEmail(personWithPlaceholder.getEmail()));
+        assertEquals(Optional.empty(), addressBook.findByEmail(personWithPlaceholder.getEmail()));
+    }
+
+    @Test
+    public void hasEmail_afterPersonEditedAndRemoved_tracksChanges() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertFalse(addressBook.hasEmail(ALICE.getEmail()));
+        assertTrue(addressBook.hasEmail(editedAlice.getEmail()));
+
+        addressBook.removePerson(editedAlice);
+        assertFalse(addressBook.hasEmail(editedAlice.getEmail()));
+    }
+
+    @Test
+    public void getPersonsWithAnyTag_tagsInAddressBook_returnsMatchingPersons() {
+        addressBook.resetData(getTypicalAddressBook());
+        Set<Person> expected = addressBook.getPersonList().stream()
+                .filter(person -> person.getTags().contains(new Tag("owesMoney"))
+                        || person.getTags().contains(new Tag("frenemy")))
+                .collect(Collectors.toSet());
+
+        // tags are matched ignoring case
+        List<Tag> tags = Arrays.asList(new Tag("OWESMONEY"), new Tag("frenemy"));
+        assertEquals(expected, new HashSet<>(addressBook.getPersonsWithAnyTag(tags)));
+        assertEquals(expected.size(), addressBook.countPersonsWithAnyTag(tags));
+
+        assertTrue(addressBook.getPersonsWithAnyTag(Collections.singletonList(new Tag("unknown"))).isEmpty());
+        assertTrue(addressBook.getPersonsWithAnyTag(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithAnyTag_afterPersonEditedAndRemoved_tracksChanges() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertTrue(addressBook.getPersonsWithAnyTag(Collections.singletonList(new Tag("friends"))).isEmpty());
+        assertTrue(addressBook.getPersonsWithAnyTag(Collections.singletonList(new Tag(VALID_TAG_HUSBAND)))
+                .contains(editedAlice));
+
+        addressBook.removePerson(editedAlice);
+        assertTrue(addressBook.getPersonsWithAnyTag(Collections.singletonList(new Tag(VALID_TAG_HUSBAND))).isEmpty());
+    }
+
+    @Test
+    public void getAnyTagFilter_nullTags_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> addressBook.getAnyTagFilter(null));
+    }
+
+    @Test
+    public void getAnyTagFilter_tagsInAddressBook_matchingPersons() {
+        addressBook.resetData(getTypicalAddressBook());
+        List<Person> expected = addressBook.getPersonList().stream()
+                .filter(person -> person.getTags().contains(new Tag("owesMoney"))
+                        || person.getTags().contains(new Tag("frenemy")))
+                .collect(Collectors.toList());
+
+        // tags are matched ignoring case
+        Predicate<Person> filter = addressBook.getAnyTagFilter(Arrays.asList(new Tag("OWESMONEY"), new Tag("frenemy")));
+        assertEquals(expected, addressBook.getPersonList().filtered(filter));
+
+        assertTrue(addressBook.getPersonList().filtered(
+                addressBook.getAnyTagFilter(Collections.singletonList(new Tag("unknown")))).isEmpty());
+        assertTrue(addressBook.getPersonList().filtered(
+                addressBook.getAnyTagFilter(Collections.emptyList())).isEmpty());
+    }
+
+    @Test
+    public void getAnyTagFilter_tagAddedAfterFilterCreated_matchesNewPerson() {
+        Predicate<Person> filter = addressBook.getAnyTagFilter(Collections.singletonList(new Tag(VALID_TAG_HUSBAND)));
+        assertFalse(filter.test(ALICE));
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND.toUpperCase()).build();
+        addressBook.addPerson(editedAlice);
+        assertTrue(filter.test(editedAlice));
+    }
+
+    @Test
+    public void getPersonsWithAnyCompanyToken_tokensInAddressBook_returnsMatchingPersons() {
+        addressBook.addPerson(ALICE);
+        Person googleCloudPerson = new PersonBuilder().withName("Gina").withPhone("91234567")
+                .withEmail("gina@example.com").withCompany("Google Cloud").build();
+        addressBook.addPerson(googleCloudPerson);
+
+        assertEquals(2, addressBook.getPersonsWithAnyCompanyToken(Collections.singletonList("google")).size());
+        assertEquals(Collections.singleton(googleCloudPerson),
+                new HashSet<>(addressBook.getPersonsWithAnyCompanyToken(Collections.singletonList("cloud"))));
+        assertTrue(addressBook.getPersonsWithAnyCompanyToken(Collections.singletonList("goo")).isEmpty());
+
+        // counts are upper bounds summed over the tokens
+        assertEquals(3, addressBook.countPersonsWithAnyCompanyToken(Arrays.asList("google", "cloud")));
+        assertEquals(0, addressBook.countPersonsWithAnyCompanyToken(Collections.singletonList("amazon")));
+    }
+
+    @Test
+    public void getPersonsWithAnyCompanyToken_afterPersonEditedAndRemoved_tracksChanges() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withCompany(VALID_COMPANY_BOB).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertTrue(addressBook.getPersonsWithAnyCompanyToken(Collections.singletonList("google")).isEmpty());
+        assertEquals(1, addressBook.countPersonsWithAnyCompanyToken(editedAlice.getCompany().getTokens()));
+
+        addressBook.removePerson(editedAlice);
+        assertEquals(0, addressBook.countPersonsWithAnyCompanyToken(editedAlice.getCompany().getTokens()));
+    }
+
+    @Test
+    public void getNameSubstringCandidates_keywordInNames_returnsPersonsWithAllTrigrams() {
+        addressBook.resetData(getTypicalAddressBook());
+
+        // every person whose name contains the keyword is a candidate
+        for (String keyword : Arrays.asList("ali", "ALICE PAU", "meier", "er", "e", "zzz")) {
+            Set<Person> candidates = addressBook.getNameSubstringCandidates(keyword);
+            addressBook.getPersonList().stream()
+                    .filter(person -> person.getName().fullName.toLowerCase().contains(keyword.toLowerCase()))
+                    .forEach(person -> assertTrue(candidates.contains(person)));
+            assertTrue(candidates.size() <= addressBook.countNameSubstringCandidates(keyword));
+        }
+
+        assertTrue(addressBook.getNameSubstringCandidates("zzz").isEmpty());
+        assertEquals(0, addressBook.countNameSubstringCandidates("zzz"));
+
+        // keywords shorter than a trigram cannot be narrowed down
+        assertEquals(addressBook.getPersonList().size(), addressBook.getNameSubstringCandidates("e").size());
+        assertEquals(addressBook.getPersonList().size(), addressBook.countNameSubstringCandidates("e"));
+    }
+
+    @Test
+    public void getNameSubstringCandidates_afterPersonEditedAndRemoved_tracksChanges() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Tan").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertTrue(addressBook.getNameSubstringCandidates("pauline").isEmpty());
+        assertTrue(addressBook.getNameSubstringCandidates("cia t").contains(editedAlice));
+
+        addressBook.removePerson(editedAlice);
+        assertTrue(addressBook.getNameSubstringCandidates("alicia").isEmpty());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getChangesSince_personLevelOperations_recordedInOrder() {
+        addressBook.addPerson(ALICE);
+        long version = addressBook.getVersion();
+        addressBook.addPerson(BENSON);
+        Person editedAlice = new PersonBuilder(ALICE).withCompany(VALID_COMPANY_BOB).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.removePerson(BENSON);
+
+        List<AddressBookChange> changes = addressBook.getChangesSince(version).get();
+        assertEquals(Arrays.asList(AddressBookChange.Kind.ADD, AddressBookChange.Kind.SET,
+                AddressBookChange.Kind.REMOVE),
+                changes.stream().map(AddressBookChange::getKind).collect(Collectors.toList()));
+        assertEquals(1, changes.get(0).getIndex());
+        assertEquals(Optional.of(BENSON), changes.get(0).getPerson());
+        assertEquals(0, changes.get(1).getIndex());
+        assertEquals(Optional.of(editedAlice), changes.get(1).getPerson());
+        assertEquals(1, changes.get(2).getIndex());
+        assertEquals(version + 3, addressBook.getVersion());
+        assertTrue(addressBook.getChangesSince(addressBook.getVersion()).get().isEmpty());
+    }
+
+    @Test
+    public void getChangesSince_sort_recordsOrder() {
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(ALICE);
+        long version = addressBook.getVersion();
+        addressBook.sort(Comparator.comparing(person -> person.getName().fullName));
+
+        AddressBookChange change = addressBook.getChangesSince(version).get().get(0);
+        assertEquals(AddressBookChange.Kind.REORDER, change.getKind());
+        assertArrayEquals(new int[] {1, 0}, change.getOrder().get());
+
+        AddressBook replayed = new AddressBook();
+        replayed.addPerson(BENSON);
+        replayed.addPerson(ALICE);
+        replayed.reorder(change.getOrder().get());
+        assertEquals(addressBook, replayed);
+    }
+
+    @Test
+    public void getChangesSince_unavailableVersions_returnsEmpty() {
+        assertFalse(addressBook.getChangesSince(addressBook.getVersion() + 1).isPresent());
+
+        long version = addressBook.getVersion();
+        for (int i = 0; i <= AddressBook.CHANGE_LOG_CAPACITY; i++) {
+            addressBook.resetData(new AddressBook());
+        }
+        assertFalse(addressBook.getChangesSince(version).isPresent());
+        assertEquals(AddressBook.CHANGE_LOG_CAPACITY, addressBook.getChangesSince(version + 1).get().size());
+    }
+
+    @Test
+    public void snapshot_laterChanges_notSeenBySnapshot() {
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+        addressBook.addPerson(BENSON);
+
+        assertEquals(Collections.singletonList(ALICE), snapshot.getPersonList());
+        assertTrue(snapshot.hasEmail(ALICE.getEmail()));
+        assertFalse(snapshot.hasEmail(BENSON.getEmail()));
+        assertEquals(addressBook, snapshot.getOrigin());
+        assertEquals(addressBook.getVersion() - 1, snapshot.getVersion());
+        assertEquals(addressBook.getChangesSince(snapshot.getVersion() - 1).get().subList(0, 1),
+                snapshot.getChangesSince(snapshot.getVersion() - 1).get());
+        assertFalse(snapshot.getChangesSince(addressBook.getVersion()).isPresent());
+    }
+
+    @Test
+    public void reorder_notPermutation_throwsIllegalArgumentException() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        assertThrows(IllegalArgumentException.class, () -> addressBook.reorder(new int[] {0, 0}));
+        assertThrows(IllegalArgumentException.class, () -> addressBook.reorder(new int[] {0}));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
@@ -103,6 +368,16 @@ public class CompanyBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public boolean hasEmail(Email email) {
+            return findByEmail(email).isPresent();
+        }
+
+        @Override
+        public Optional<Person> findByEmail(Email email) {
+            return persons.stream().filter(person -> person.getEmail().equals(email)).findFirst();
+        }
     }
 
 }
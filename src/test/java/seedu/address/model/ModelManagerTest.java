@@ -91,6 +91,19 @@ public class ModelManagerTest {
         modelManager.addPerson(ALICE);
         assertTrue(modelManager.hasPerson(ALICE));
     }
+
+    @Test
+    public void hasEmail_nullEmail_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.hasEmail(null));
+    }
+
+    @Test
+    public void hasEmail_emailInAddressBook_returnsTrue() {
+        assertFalse(modelManager.hasEmail(ALICE.getEmail()));
+        modelManager.addPerson(ALICE);
+        assertTrue(modelManager.hasEmail(ALICE.getEmail()));
+    }
+
     @Test
     public void deletePerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.deletePerson(null));
@@ -251,8 +264,9 @@ public class ModelManagerTest {
         }
 
         @Override
-        public void removePerson(Person key) {
+        public int removePerson(Person key) {
             // Do nothing to simulate a failed removal
+            return 0;
         }
     }
 }
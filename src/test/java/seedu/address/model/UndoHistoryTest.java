@@ -0,0 +1,194 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.util.PersistentList;
+import seedu.address.testutil.PersonBuilder;
+
+public class UndoHistoryTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final UndoHistory undoHistory = new UndoHistory(Long.MAX_VALUE);
+
+    @Test
+    public void undoAndRedo_everyKindOfChange_restoresEachState() {
+        List<List<Person>> states = new ArrayList<>();
+        states.add(List.copyOf(addressBook.getPersonList()));
+
+        addressBook.addPerson(HOON);
+        undoHistory.recordAdd(addressBook.getPersonList().size() - 1, HOON);
+        states.add(List.copyOf(addressBook.getPersonList()));
+
+        Person editedBenson = new PersonBuilder(BENSON).withDetail("moved desks").build();
+        undoHistory.recordSet(addressBook.setPerson(BENSON, editedBenson), BENSON, editedBenson);
+        states.add(List.copyOf(addressBook.getPersonList()));
+
+        undoHistory.recordRemove(addressBook.removePerson(ALICE), ALICE);
+        states.add(List.copyOf(addressBook.getPersonList()));
+
+        undoHistory.recordReorder(addressBook.sort(
+                Comparator.comparing((Person person) -> person.getName().fullName).reversed()));
+        states.add(List.copyOf(addressBook.getPersonList()));
+
+        PersistentList<Person> replaced = addressBook.getPersistentPersonList();
+        addressBook.setPersons(Collections.emptyList());
+        undoHistory.recordReset(replaced, addressBook.getPersistentPersonList());
+        states.add(List.copyOf(addressBook.getPersonList()));
+
+        for (int i = states.size() - 2; i >= 0; i--) {
+            undoHistory.undo(addressBook);
+            assertEquals(states.get(i), addressBook.getPersonList());
+        }
+        assertFalse(undoHistory.canUndo());
+
+        for (int i = 1; i < states.size(); i++) {
+            undoHistory.redo(addressBook);
+            assertEquals(states.get(i), addressBook.getPersonList());
+        }
+        assertFalse(undoHistory.canRedo());
+    }
+
+    @Test
+    public void record_afterUndo_undoneChangeCannotBeRedone() {
+        addressBook.addPerson(HOON);
+        undoHistory.recordAdd(addressBook.getPersonList().size() - 1, HOON);
+        undoHistory.undo(addressBook);
+        assertTrue(undoHistory.canRedo());
+
+        addressBook.addPerson(IDA);
+        undoHistory.recordAdd(addressBook.getPersonList().size() - 1, IDA);
+        assertFalse(undoHistory.canRedo());
+    }
+
+    @Test
+    public void setMemoryLimit_belowMemoryUsed_oldestChangesForgotten() {
+        addressBook.addPerson(HOON);
+        undoHistory.recordAdd(addressBook.getPersonList().size() - 1, HOON);
+        addressBook.addPerson(IDA);
+        undoHistory.recordAdd(addressBook.getPersonList().size() - 1, IDA);
+        long stepSize = undoHistory.getMemoryUsed() / 2;
+
+        undoHistory.setMemoryLimit(stepSize);
+        assertEquals(stepSize, undoHistory.getMemoryUsed());
+        undoHistory.undo(addressBook);
+        assertFalse(addressBook.hasPerson(IDA));
+        assertTrue(addressBook.hasPerson(HOON));
+        assertFalse(undoHistory.canUndo());
+
+        undoHistory.setMemoryLimit(0);
+        assertFalse(undoHistory.canRedo());
+        assertEquals(0, undoHistory.getMemoryUsed());
+    }
+
+    @Test
+    public void recordReset_replacementNotCharged() {
+        PersistentList<Person> persons = addressBook.getPersistentPersonList();
+        undoHistory.recordReset(persons, PersistentList.empty());
+        long clearSize = undoHistory.getMemoryUsed();
+        undoHistory.clear();
+
+        undoHistory.recordReset(persons, persons);
+        assertEquals(clearSize, undoHistory.getMemoryUsed());
+    }
+
+    @Test
+    public void recordReset_atMemoryLimit_keptWithOlderChanges() {
+        addressBook.addPerson(HOON);
+        undoHistory.recordAdd(addressBook.getPersonList().size() - 1, HOON);
+        long addSize = undoHistory.getMemoryUsed();
+        UndoHistory measured = new UndoHistory(Long.MAX_VALUE);
+        measured.recordReset(addressBook.getPersistentPersonList(), PersistentList.empty());
+        long clearSize = measured.getMemoryUsed();
+
+        undoHistory.setMemoryLimit(addSize + clearSize);
+        clearAddressBook();
+        assertEquals(addSize + clearSize, undoHistory.getMemoryUsed());
+        undoHistory.undo(addressBook);
+        undoHistory.undo(addressBook);
+        assertEquals(getTypicalAddressBook().getPersonList(), addressBook.getPersonList());
+    }
+
+    @Test
+    public void recordReset_overMemoryLimit_keptAsColumnsInPlaceOfOlderChanges() {
+        addressBook.addPerson(HOON);
+        undoHistory.recordAdd(addressBook.getPersonList().size() - 1, HOON);
+        List<Person> beforeClear = List.copyOf(addressBook.getPersonList());
+        UndoHistory measured = new UndoHistory(Long.MAX_VALUE);
+        measured.recordReset(addressBook.getPersistentPersonList(), PersistentList.empty());
+        undoHistory.setMemoryLimit(undoHistory.getMemoryUsed());
+
+        // the clear alone is over the limit, so its persons are kept column-wise and the older change is forgotten
+        clearAddressBook();
+        assertTrue(undoHistory.getMemoryUsed() < measured.getMemoryUsed());
+        undoHistory.undo(addressBook);
+        assertEquals(beforeClear, addressBook.getPersonList());
+        assertFalse(undoHistory.canUndo());
+
+        undoHistory.redo(addressBook);
+        assertTrue(addressBook.getPersonList().isEmpty());
+        undoHistory.undo(addressBook);
+        assertEquals(beforeClear, addressBook.getPersonList());
+    }
+
+    @Test
+    public void clear_changesRecorded_nothingToUndo() {
+        addressBook.addPerson(HOON);
+        undoHistory.recordAdd(addressBook.getPersonList().size() - 1, HOON);
+        undoHistory.clear();
+        assertFalse(undoHistory.canUndo());
+        assertEquals(0, undoHistory.getMemoryUsed());
+    }
+
+    @Test
+    public void record_zeroMemoryLimit_nothingRecorded() {
+        UndoHistory disabled = new UndoHistory(0);
+        assertFalse(disabled.isEnabled());
+
+        addressBook.addPerson(HOON);
+        disabled.recordAdd(addressBook.getPersonList().size() - 1, HOON);
+        disabled.recordReorder(addressBook.sort(Comparator.comparing((Person person) -> person.getName().fullName)));
+        disabled.recordReset(addressBook.getPersistentPersonList(), PersistentList.empty());
+        assertFalse(disabled.canUndo());
+        assertEquals(0, disabled.getMemoryUsed());
+    }
+
+    @Test
+    public void setMemoryLimit_zero_changesForgottenAndNoneRecorded() {
+        addressBook.addPerson(HOON);
+        undoHistory.recordAdd(addressBook.getPersonList().size() - 1, HOON);
+        undoHistory.setMemoryLimit(0);
+        assertFalse(undoHistory.canUndo());
+
+        clearAddressBook();
+        assertFalse(undoHistory.canUndo());
+        assertEquals(0, undoHistory.getMemoryUsed());
+    }
+
+    @Test
+    public void setMemoryLimit_negative_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> undoHistory.setMemoryLimit(-1));
+    }
+
+    private void clearAddressBook() {
+        PersistentList<Person> replaced = addressBook.getPersistentPersonList();
+        addressBook.setPersons(Collections.emptyList());
+        undoHistory.recordReset(replaced, addressBook.getPersistentPersonList());
+    }
+
+}
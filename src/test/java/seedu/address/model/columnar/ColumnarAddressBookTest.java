@@ -0,0 +1,117 @@
+package seedu.address.model.columnar;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class ColumnarAddressBookTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final ColumnarAddressBook columnarAddressBook = new ColumnarAddressBook(addressBook);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ColumnarAddressBook((ReadOnlyAddressBook) null));
+        assertThrows(NullPointerException.class, () -> new ColumnarAddressBook((List<Person>) null));
+    }
+
+    @Test
+    public void getPersonList_typicalPersons_samePersonsInSameOrder() {
+        assertEquals(addressBook.getPersonList(), columnarAddressBook.getPersonList());
+        assertEquals(addressBook.getPersonList().size(), columnarAddressBook.size());
+        assertEquals(addressBook, new AddressBook(columnarAddressBook));
+    }
+
+    @Test
+    public void getPersonList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> columnarAddressBook.getPersonList().remove(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> columnarAddressBook.getPerson(columnarAddressBook.size()));
+    }
+
+    @Test
+    public void findByEmail() {
+        assertTrue(columnarAddressBook.hasEmail(ALICE.getEmail()));
+        assertEquals(Optional.of(BENSON), columnarAddressBook.findByEmail(BENSON.getEmail()));
+        assertFalse(columnarAddressBook.hasEmail(new Email("nobody@example.com")));
+        assertFalse(columnarAddressBook.hasEmail(new Email(Email.PLACEHOLDER_EMAIL)));
+    }
+
+    @Test
+    public void filterByAnyTag_sameResultAsTagSets() {
+        List<Tag> tags = Arrays.asList(new Tag("OWESMONEY"), new Tag("frenemy"));
+        int[] expected = IntStream.range(0, addressBook.getPersonList().size())
+                .filter(index -> tags.stream().anyMatch(addressBook.getPersonList().get(index).getTags()::contains))
+                .toArray();
+        assertArrayEquals(expected, columnarAddressBook.filterByAnyTag(tags));
+        assertArrayEquals(new int[0], columnarAddressBook.filterByAnyTag(Arrays.asList(new Tag("unknown"))));
+    }
+
+    @Test
+    public void filterByNameContaining_sameResultAsContainsIgnoreCase() {
+        for (String keyword : Arrays.asList("ALI", "e", "er m", "zzz")) {
+            int[] expected = IntStream.range(0, addressBook.getPersonList().size())
+                    .filter(index -> addressBook.getPersonList().get(index).getName().fullName.toLowerCase()
+                            .contains(keyword.toLowerCase()))
+                    .toArray();
+            assertArrayEquals(expected, columnarAddressBook.filterByNameContaining(keyword));
+        }
+    }
+
+    @Test
+    public void sortByName_sameOrderAsCaseInsensitiveSort() {
+        AddressBook unsorted = new AddressBook();
+        unsorted.addPerson(new PersonBuilder().withName("bob").withPhone("111").withEmail("b@example.com").build());
+        unsorted.addPerson(new PersonBuilder().withName("Alice").withPhone("222").withEmail("a@example.com").build());
+        unsorted.addPerson(new PersonBuilder().withName("alice").withPhone("333").withEmail("c@example.com")
+                .withTags().build());
+        ColumnarAddressBook columnar = new ColumnarAddressBook(unsorted);
+
+        List<Person> expected = new ArrayList<>(unsorted.getPersonList());
+        expected.sort(Comparator.comparing(person -> person.getName().fullName, String.CASE_INSENSITIVE_ORDER));
+        assertEquals(expected, positionsToPersons(columnar, columnar.sortByName()));
+    }
+
+    @Test
+    public void sortByTag_sameOrderAsSmallestTagSort() {
+        List<Person> expected = new ArrayList<>(addressBook.getPersonList());
+        expected.sort(Comparator.comparing(Person::getTagSortKey));
+        assertEquals(expected, positionsToPersons(columnarAddressBook, columnarAddressBook.sortByTag()));
+    }
+
+    @Test
+    public void getByteCount_emptyBook_smallerThanTypicalBook() {
+        ColumnarAddressBook empty = new ColumnarAddressBook(new AddressBook());
+        assertEquals(0, empty.size());
+        assertTrue(empty.getByteCount() < columnarAddressBook.getByteCount());
+    }
+
+    private static List<Person> positionsToPersons(ColumnarAddressBook book, int[] positions) {
+        List<Person> persons = new ArrayList<>();
+        for (int position : positions) {
+            persons.add(book.getPerson(position));
+        }
+        return persons;
+    }
+
+}
@@ -0,0 +1,83 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class CompactPersonIndexTest {
+
+    private final CompactPersonIndex<String> tagIndex = new CompactPersonIndex<>(person -> person.getTags().stream()
+            .map(tag -> tag.tagName)
+            .collect(Collectors.toList()));
+
+    @Test
+    public void constructor_nullKeyFunction_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CompactPersonIndex<String>(null));
+    }
+
+    @Test
+    public void getHavingAll_keysIndexed_returnsPersonsUnderEveryKey() {
+        tagIndex.addAll(Arrays.asList(ALICE, BENSON, CARL));
+
+        assertEquals(Set.of(ALICE, BENSON), tagIndex.getHavingAll(List.of("friends")));
+        assertEquals(Set.of(BENSON), tagIndex.getHavingAll(List.of("friends", "owesMoney")));
+        assertEquals(2, tagIndex.count("friends"));
+        assertTrue(tagIndex.getHavingAll(List.of("friends", "unknown")).isEmpty());
+        assertTrue(tagIndex.getHavingAll(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void remove_personsRemovedAndAdded_slotsReused() {
+        tagIndex.addAll(Arrays.asList(ALICE, BENSON));
+
+        tagIndex.remove(BENSON);
+        assertEquals(0, tagIndex.count("owesMoney"));
+        assertEquals(Set.of(ALICE), tagIndex.getHavingAll(List.of("friends")));
+
+        Person friend = new PersonBuilder(CARL).withTags("friends").build();
+        tagIndex.add(friend);
+        tagIndex.add(BENSON);
+        assertEquals(Set.of(ALICE, BENSON, friend), tagIndex.getHavingAll(List.of("friends")));
+        assertEquals(Set.of(BENSON), tagIndex.getHavingAll(List.of("owesMoney")));
+    }
+
+    @Test
+    public void remove_equalPersonNotIndexed_doesNothing() {
+        tagIndex.add(ALICE);
+        tagIndex.remove(new PersonBuilder(ALICE).build());
+        tagIndex.remove(BENSON);
+        assertEquals(1, tagIndex.count("friends"));
+    }
+
+    @Test
+    public void clear_removesAllPersons() {
+        tagIndex.addAll(Arrays.asList(ALICE, BENSON));
+        tagIndex.clear();
+        assertEquals(0, tagIndex.count("friends"));
+        assertTrue(tagIndex.getHavingAll(List.of("friends")).isEmpty());
+    }
+
+    @Test
+    public void add_personWithoutKeys_notIndexed() {
+        Person personWithoutTags = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(),
+                ALICE.getCompany(), Collections.<Tag>emptySet());
+        tagIndex.add(personWithoutTags);
+        tagIndex.remove(personWithoutTags);
+        assertEquals(0, tagIndex.count("friends"));
+    }
+
+}
@@ -1,9 +1,12 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 public class CompanyTest {
@@ -19,6 +22,15 @@ public class CompanyTest {
         assertThrows(IllegalArgumentException.class, () -> new Company(invalidAddress));
     }
 
+    @Test
+    public void tokenize() {
+        assertThrows(NullPointerException.class, () -> Company.tokenize(null));
+
+        assertEquals(Arrays.asList("google"), Company.tokenize("Google"));
+        assertEquals(Arrays.asList("google", "cloud"), Company.tokenize("GOOGLE   Cloud google"));
+        assertEquals(Arrays.asList("google", "cloud"), new Company("Google Cloud").getTokens());
+    }
+
     @Test
     public void isValidCompany() {
         // null company
@@ -1,9 +1,14 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -19,6 +24,22 @@ public class NameTest {
         assertThrows(IllegalArgumentException.class, () -> new Name(invalidName));
     }
 
+    @Test
+    public void getFoldedName() {
+        assertEquals("alice pauline", new Name("  ALICE   Pauline ").getFoldedName());
+    }
+
+    @Test
+    public void trigrams() {
+        assertThrows(NullPointerException.class, () -> Name.trigrams(null));
+
+        // shorter than a trigram
+        assertEquals(Collections.emptySet(), Name.trigrams("Al"));
+
+        assertEquals(new LinkedHashSet<>(Arrays.asList("ann", "nna", "na ", "a a", " an")), Name.trigrams("ANNA ANN"));
+        assertEquals(Name.trigrams("alice"), new Name("Alice").getTrigrams());
+    }
+
     @Test
     public void isValidName() {
         // null name
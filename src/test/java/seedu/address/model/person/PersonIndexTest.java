@@ -0,0 +1,90 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+
+public class PersonIndexTest {
+
+    private final PersonIndex<String> tagIndex = new PersonIndex<>(person -> person.getTags().stream()
+            .map(tag -> tag.tagName)
+            .collect(Collectors.toList()));
+
+    @Test
+    public void constructor_nullKeyFunction_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PersonIndex<String>(null));
+    }
+
+    @Test
+    public void get_keyNotIndexed_returnsEmptySet() {
+        assertEquals(Collections.emptySet(), tagIndex.get("friends"));
+        assertEquals(0, tagIndex.count("friends"));
+        assertFalse(tagIndex.containsKey("friends"));
+    }
+
+    @Test
+    public void add_personWithManyKeys_indexedUnderEachKey() {
+        tagIndex.addAll(Arrays.asList(ALICE, BENSON, CARL));
+
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON)), tagIndex.get("friends"));
+        assertEquals(Collections.singleton(BENSON), tagIndex.get("owesMoney"));
+        assertEquals(2, tagIndex.count("friends"));
+    }
+
+    @Test
+    public void remove_lastPersonUnderKey_dropsKey() {
+        tagIndex.add(ALICE);
+        tagIndex.add(BENSON);
+
+        tagIndex.remove(BENSON);
+        assertFalse(tagIndex.containsKey("owesMoney"));
+        assertEquals(Collections.singleton(ALICE), tagIndex.get("friends"));
+
+        tagIndex.remove(ALICE);
+        assertFalse(tagIndex.containsKey("friends"));
+    }
+
+    @Test
+    public void remove_personNotIndexed_doesNothing() {
+        tagIndex.add(ALICE);
+        tagIndex.remove(BENSON);
+        assertTrue(tagIndex.containsKey("friends"));
+        assertEquals(1, tagIndex.count("friends"));
+    }
+
+    @Test
+    public void clear_removesAllPersons() {
+        tagIndex.addAll(Arrays.asList(ALICE, BENSON));
+        tagIndex.clear();
+        assertFalse(tagIndex.containsKey("friends"));
+    }
+
+    @Test
+    public void get_modifyResult_throwsUnsupportedOperationException() {
+        tagIndex.add(ALICE);
+        assertThrows(UnsupportedOperationException.class, () -> tagIndex.get("friends").clear());
+        assertThrows(UnsupportedOperationException.class, () -> tagIndex.get("unknown").add(ALICE));
+    }
+
+    @Test
+    public void add_personWithoutKeys_notIndexed() {
+        Person personWithoutTags = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(),
+                ALICE.getCompany(), Collections.<Tag>emptySet());
+        tagIndex.add(personWithoutTags);
+        assertFalse(tagIndex.containsKey("friends"));
+    }
+
+}
@@ -2,20 +2,27 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_COMPANY_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.Arrays;
 import java.util.HashSet;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagDictionary;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -53,6 +60,63 @@ public class PersonTest {
         assertTrue(BOB.isSamePerson(editedBob));
     }
 
+    @Test
+    public void getIdentityKey() {
+        // same identity -> same key
+        Person editedBob = new PersonBuilder(BOB).withName(VALID_NAME_BOB.toUpperCase()).withEmail(VALID_EMAIL_AMY)
+                .build();
+        assertEquals(BOB.getIdentityKey(), editedBob.getIdentityKey());
+
+        // different phone -> different key
+        editedBob = new PersonBuilder(BOB).withPhone(VALID_PHONE_AMY).build();
+        assertNotEquals(BOB.getIdentityKey(), editedBob.getIdentityKey());
+
+        // different name -> different key
+        assertNotEquals(ALICE.getIdentityKey(), BOB.getIdentityKey());
+    }
+
+    @Test
+    public void getTagSortKey() {
+        assertEquals("", new PersonBuilder(ALICE).withTags().build().getTagSortKey());
+        assertEquals("friends", new PersonBuilder(ALICE).withTags("owesMoney", "Friends").build().getTagSortKey());
+    }
+
+    @Test
+    public void getTags_tagsInDifferentCase_keepSpellingAndCompareIgnoringCase() {
+        Person upperCaseTags = new PersonBuilder(ALICE).withTags("FRIENDS").build();
+        assertEquals("FRIENDS", upperCaseTags.getTags().iterator().next().tagName);
+        assertEquals(ALICE, upperCaseTags);
+        assertEquals(ALICE.hashCode(), upperCaseTags.hashCode());
+    }
+
+    @Test
+    public void hasAnyTag() {
+        TagDictionary dictionary = new TagDictionary();
+        long[] friendsMask = dictionary.toBits(Arrays.asList(new Tag("Friends"), new Tag("unknown")));
+        assertTrue(ALICE.hasAnyTag(dictionary, friendsMask));
+        assertFalse(ALICE.hasAnyTag(dictionary, dictionary.toBits(Arrays.asList(new Tag(VALID_TAG_HUSBAND)))));
+        assertFalse(ALICE.hasAnyTag(dictionary, TagDictionary.EMPTY));
+        assertFalse(new PersonBuilder(ALICE).withTags().build().hasAnyTag(dictionary, friendsMask));
+
+        // the bits cached for one dictionary are not used with another
+        TagDictionary otherDictionary = new TagDictionary();
+        otherDictionary.idOf(new Tag(VALID_TAG_HUSBAND));
+        long[] husbandMask = otherDictionary.toBits(Arrays.asList(new Tag(VALID_TAG_HUSBAND)));
+        assertTrue(ALICE.hasAnyTag(otherDictionary, otherDictionary.toBits(Arrays.asList(new Tag("friends")))));
+        assertFalse(ALICE.hasAnyTag(otherDictionary, husbandMask));
+    }
+
+    @Test
+    public void getTags_calledTwice_sameSet() {
+        assertSame(ALICE.getTags(), ALICE.getTags());
+    }
+
+    @Test
+    public void hashCode_equalPersons_sameHashCode() {
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        assertEquals(ALICE.hashCode(), aliceCopy.hashCode());
+    }
+
     @Test
     public void equals() {
         // same values -> returns true
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -8,13 +9,18 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.ListIterator;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -47,6 +53,36 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithNameInDifferentCase_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person aliceInLowerCase = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toLowerCase()).build();
+        assertTrue(uniquePersonList.contains(aliceInLowerCase));
+    }
+
+    @Test
+    public void contains_afterRemove_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_afterSetPersonWithDifferentIdentity_tracksEditedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void contains_afterSetPersons_tracksReplacementPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -162,6 +198,57 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_namesDuplicateAndKeepsOwnList() {
+        uniquePersonList.add(CARL);
+        Person bobWithOtherCompany = new PersonBuilder(BOB).withCompany("Amazon").build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, bobWithOtherCompany);
+        assertThrows(DuplicatePersonException.class, new DuplicatePersonException(bobWithOtherCompany).getMessage(), ()
+            -> uniquePersonList.setPersons(listWithDuplicatePersons));
+
+        // the list is left unchanged
+        assertEquals(Collections.singletonList(CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void sort_comparator_returnsOrderAndNotifiesPermutation() {
+        uniquePersonList.setPersons(Arrays.asList(CARL, ALICE, BOB));
+        List<Boolean> wasPermuted = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                wasPermuted.add(change.wasPermutated());
+            }
+        });
+
+        int[] order = uniquePersonList.sort(Comparator.comparing(person -> person.getName().fullName));
+        assertArrayEquals(new int[] {1, 2, 0}, order);
+        assertEquals(Arrays.asList(ALICE, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Collections.singletonList(true), wasPermuted);
+    }
+
+    @Test
+    public void asPersistentList_laterChanges_versionUnchanged() {
+        uniquePersonList.add(ALICE);
+        List<Person> version = uniquePersonList.asPersistentList();
+        uniquePersonList.add(BOB);
+        uniquePersonList.setPerson(ALICE, CARL);
+        assertEquals(Collections.singletonList(ALICE), version);
+        assertEquals(Arrays.asList(CARL, BOB), uniquePersonList.asPersistentList());
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_listIterator_walksCurrentVersion() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        ListIterator<Person> iterator = uniquePersonList.asUnmodifiableObservableList().listIterator(1);
+        assertEquals(BOB, iterator.next());
+        assertEquals(CARL, iterator.next());
+        assertEquals(CARL, iterator.previous());
+        assertThrows(UnsupportedOperationException.class, () -> iterator.set(ALICE));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
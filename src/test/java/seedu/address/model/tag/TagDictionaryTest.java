@@ -0,0 +1,76 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class TagDictionaryTest {
+
+    private final TagDictionary dictionary = new TagDictionary();
+
+    @Test
+    public void toBits_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> dictionary.toBits(null));
+        assertThrows(NullPointerException.class, () -> dictionary.idOf(null));
+    }
+
+    @Test
+    public void toBits_emptySet_returnsEmptyBits() {
+        assertArrayEquals(TagDictionary.EMPTY, dictionary.toBits(Collections.emptySet()));
+        assertEquals(0, dictionary.size());
+    }
+
+    @Test
+    public void idOf_sameTagInDifferentCase_sameId() {
+        assertEquals(dictionary.idOf(new Tag("Friend")), dictionary.idOf(new Tag("friend")));
+        assertNotEquals(dictionary.idOf(new Tag("friend")), dictionary.idOf(new Tag("colleague")));
+        assertEquals(2, dictionary.size());
+
+        List<Tag> duplicated = Arrays.asList(new Tag("friend"), new Tag("FRIEND"));
+        assertArrayEquals(dictionary.toBits(Collections.singleton(new Tag("friend"))), dictionary.toBits(duplicated));
+    }
+
+    @Test
+    public void intersects_ignoresCase() {
+        long[] lower = dictionary.toBits(Collections.singleton(new Tag("dictionaryMask")));
+        long[] upper = dictionary.toBits(Collections.singleton(new Tag("DICTIONARYMASK")));
+        long[] other = dictionary.toBits(Collections.singleton(new Tag("dictionaryUnrelated")));
+        long[] mask = dictionary.toBits(Collections.singleton(new Tag("DictionaryMask")));
+
+        assertTrue(TagDictionary.intersects(lower, mask));
+        assertTrue(TagDictionary.intersects(upper, mask));
+        assertFalse(TagDictionary.intersects(other, mask));
+        assertFalse(TagDictionary.intersects(TagDictionary.EMPTY, mask));
+    }
+
+    @Test
+    public void toBits_manyTags_spansSeveralWords() {
+        List<Tag> tags = IntStream.range(0, 2 * Long.SIZE + 1)
+                .mapToObj(i -> new Tag("dictionaryMany" + i))
+                .collect(Collectors.toList());
+        long[] bits = dictionary.toBits(tags);
+        assertEquals(3, bits.length);
+        assertEquals(tags.size(), dictionary.size());
+        assertTrue(TagDictionary.intersects(bits, dictionary.toBits(tags.subList(tags.size() - 1, tags.size()))));
+    }
+
+    @Test
+    public void dictionaries_giveIdsIndependently() {
+        TagDictionary other = new TagDictionary();
+        dictionary.idOf(new Tag("dictionaryFirst"));
+        assertEquals(0, other.idOf(new Tag("dictionarySecond")));
+        assertEquals(1, other.size());
+    }
+
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -35,6 +36,23 @@ public class TagTest {
         assertTrue(Tag.isValidTagName(generateString(Tag.MAX_LENGTH)));
     }
 
+    @Test
+    public void equals() {
+        Tag tag = new Tag("Friends");
+
+        // same name ignoring case -> returns true, with the same hash code
+        assertTrue(tag.equals(new Tag("fRIENDS")));
+        assertEquals(tag.hashCode(), new Tag("fRIENDS").hashCode());
+        assertEquals("friends", tag.getFoldedName());
+
+        // different name -> returns false
+        assertFalse(tag.equals(new Tag("colleagues")));
+
+        // null or different type -> returns false
+        assertFalse(tag.equals(null));
+        assertFalse(tag.equals("Friends"));
+    }
+
     private String generateString(int length) {
         return "a".repeat(length);
     }
@@ -0,0 +1,116 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void of_list_sameElementsInOrder() {
+        List<String> elements = Arrays.asList("a", "b", "c", "d", "e");
+        PersistentList<String> list = PersistentList.of(elements);
+        assertEquals(elements, list);
+        assertEquals(elements, new ArrayList<>(list));
+        assertEquals(2, list.indexOf("c"));
+        assertEquals(-1, list.indexOf("f"));
+        assertSame(list, PersistentList.of(list));
+        assertEquals(Collections.emptyList(), PersistentList.of(Collections.emptyList()));
+    }
+
+    @Test
+    public void of_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.of(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void changes_randomOperations_matchArrayListAndKeepEarlierVersions() {
+        Random random = new Random(0);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(4);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list = list.plus(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.minus(index);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                list = list.with(index, i);
+            } else {
+                expected.add(i);
+                list = list.plus(i);
+            }
+            expectedVersions.add(new ArrayList<>(expected));
+            versions.add(list);
+        }
+
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(expectedVersions.get(i), versions.get(i));
+        }
+    }
+
+    @Test
+    public void listIterator_anyIndex_walksLikeArrayList() {
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 100; i++) {
+            expected.add(i);
+            list = list.plus(i);
+        }
+
+        for (int start = 0; start <= expected.size(); start++) {
+            ListIterator<Integer> expectedIterator = expected.listIterator(start);
+            ListIterator<Integer> iterator = list.listIterator(start);
+            // forwards to the end, then backwards to the start, then forwards again
+            while (expectedIterator.hasNext()) {
+                assertEquals(expectedIterator.nextIndex(), iterator.nextIndex());
+                assertEquals(expectedIterator.next(), iterator.next());
+            }
+            assertFalse(iterator.hasNext());
+            while (expectedIterator.hasPrevious()) {
+                assertEquals(expectedIterator.previousIndex(), iterator.previousIndex());
+                assertEquals(expectedIterator.previous(), iterator.previous());
+            }
+            assertFalse(iterator.hasPrevious());
+            assertEquals(expectedIterator.next(), iterator.next());
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.of(expected).listIterator(101));
+    }
+
+    @Test
+    public void changes_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(-1, "c"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(3, "c"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(2));
+    }
+
+    @Test
+    public void set_anyIndex_throwsUnsupportedOperationException() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b"));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, "c"));
+        assertThrows(UnsupportedOperationException.class, () -> list.iterator().remove());
+        assertThrows(UnsupportedOperationException.class, () -> list.listIterator(1).set("c"));
+    }
+
+}
@@ -0,0 +1,84 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Company;
+import seedu.address.model.tag.Tag;
+
+public class ValuePoolTest {
+
+    private final ValuePool<Company> pool = new ValuePool<>(Company::new, company -> company.value, company -> 10);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ValuePool<Company>(null, company -> company.value,
+                company -> 0));
+    }
+
+    @Test
+    public void get_sameKey_returnsSameInstance() {
+        Company google = pool.get("Google");
+        assertSame(google, pool.get(new String("Google")));
+        assertNotSame(google, pool.get("google"));
+
+        assertEquals(2, pool.size());
+        assertEquals(1, pool.getReuseCount());
+        assertEquals(10, pool.getSavedBytes());
+    }
+
+    @Test
+    public void get_invalidKey_throwsAndPoolsNothing() {
+        assertThrows(IllegalArgumentException.class, () -> pool.get(" "));
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void get_sameKeyFromSeveralThreads_returnsSameInstance() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Callable<Company> getGoogle = () -> pool.get(new String("Google"));
+            List<Future<Company>> results = executor.invokeAll(List.of(getGoogle, getGoogle, getGoogle, getGoogle));
+            Company google = pool.get("Google");
+            for (Future<Company> result : results) {
+                assertSame(google, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1, pool.size());
+        assertEquals(4, pool.getReuseCount());
+    }
+
+    @Test
+    public void intern_equalValue_returnsPooledInstance() {
+        Company google = new Company("Google");
+        assertSame(google, pool.intern(google));
+        assertSame(google, pool.intern(google));
+        assertSame(google, pool.intern(new Company("Google")));
+        assertSame(google, pool.get("Google"));
+        assertEquals(2, pool.getReuseCount());
+    }
+
+    @Test
+    public void valuePools_tagsDifferingInCase_keptApart() {
+        Tag friends = ValuePools.tag("Friends");
+        assertSame(friends, ValuePools.tag("Friends"));
+        assertSame(friends, ValuePools.tag(new Tag("Friends")));
+        assertEquals("friends", ValuePools.tag("friends").tagName);
+        assertSame(ValuePools.company("Google"), ValuePools.company(new Company("Google")));
+        assertTrue(ValuePools.getSavingsReport().startsWith("Shared values:"));
+    }
+
+}
@@ -0,0 +1,132 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BackgroundAddressBookSaverTest {
+
+    @Test
+    public void submit_burstWhileSaving_coalescedIntoOneSave() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        storage.blockNextSave();
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage);
+
+        AddressBook first = new AddressBook();
+        saver.submit(first);
+        storage.saveStarted.await();
+        AddressBook second = new AddressBook();
+        AddressBook third = getTypicalAddressBook();
+        saver.submit(second);
+        saver.submit(third);
+        storage.unblock.countDown();
+        saver.flush();
+
+        assertEquals(2, storage.saved.size());
+        assertSame(first, storage.saved.get(0));
+        assertSame(third, storage.saved.get(1));
+        saver.close();
+    }
+
+    @Test
+    public void submit_saveFails_listenerToldAndFlushRetries() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        storage.failNextSave = true;
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage);
+        List<IOException> failures = new ArrayList<>();
+        saver.addFailureListener(failures::add);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        saver.submit(addressBook);
+        saver.flush();
+
+        assertEquals(1, failures.size());
+        assertEquals(1, storage.saved.size());
+        assertSame(addressBook, storage.saved.get(0));
+        saver.close();
+    }
+
+    @Test
+    public void flush_saveKeepsFailing_throwsIoException() {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        storage.alwaysFail = true;
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage);
+        saver.submit(new AddressBook());
+        assertThrows(IOException.class, saver::flush);
+    }
+
+    @Test
+    public void close_pendingSave_savedBeforeClosing() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage);
+        saver.submit(getTypicalAddressBook());
+        saver.close();
+        assertEquals(1, storage.saved.size());
+    }
+
+    /**
+     * An {@code AddressBookStorage} that records the contact books saved, and can be told to fail or block.
+     */
+    private static class AddressBookStorageStub implements AddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        private final CountDownLatch saveStarted = new CountDownLatch(1);
+        private CountDownLatch unblock = new CountDownLatch(0);
+        private boolean failNextSave;
+        private boolean alwaysFail;
+
+        void blockNextSave() {
+            unblock = new CountDownLatch(1);
+        }
+
+        @Override
+        public Path getAddressBookFilePath() {
+            return Paths.get("stub.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            saveStarted.countDown();
+            try {
+                unblock.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            unblock = new CountDownLatch(0);
+            if (failNextSave || alwaysFail) {
+                failNextSave = false;
+                throw new IOException("stub failure");
+            }
+            saved.add(addressBook);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveAddressBook(addressBook);
+        }
+    }
+
+}
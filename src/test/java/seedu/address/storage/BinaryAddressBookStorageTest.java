@@ -0,0 +1,132 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBinaryFilePath_jsonFilePath_extensionReplaced() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        assertEquals(new AddressBook(), new AddressBook(saveAndRead(new AddressBook())));
+    }
+
+    @Test
+    public void readAddressBook_mappedOrOnHeap_sameAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        ReadOnlyAddressBook mapped = new BinaryAddressBookStorage(filePath, true).readAddressBook().get();
+        ReadOnlyAddressBook onHeap = new BinaryAddressBookStorage(filePath, false).readAddressBook().get();
+        assertEquals(original.getPersonList(), mapped.getPersonList());
+        assertEquals(original.getPersonList(), onHeap.getPersonList());
+
+        // the storage in use only maps files where they can be replaced while the mapping is not yet released
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_fileStillMapped_fileReplaced() throws Exception {
+        // mappings are only released by the garbage collector, so files are only mapped where this holds
+        assumeTrue(MappedFile.canReplaceWhileMapped());
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        ByteBuffer mapped = MappedFile.map(filePath);
+
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+        // the mapping still reads the replaced snapshot
+        assertEquals(getTypicalAddressBook(), BinarySnapshot.read(mapped, AddressBookLoadListener.NONE));
+    }
+
+    @Test
+    public void readAddressBook_corruptedBody_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 0x20;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_notBinarySnapshot_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        Files.writeString(filePath, "{ \"persons\": [] }");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBookProgressively_listenerToldOfPersonsRead() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        int[] lastCount = new int[1];
+        double[] lastFraction = new double[1];
+        storage.readAddressBookProgressively((personsRead, fractionRead) -> {
+            lastCount[0] = personsRead.size();
+            lastFraction[0] = fractionRead;
+        });
+        assertEquals(original.getPersonList().size(), lastCount[0]);
+        assertEquals(1.0, lastFraction[0]);
+    }
+
+    private ReadOnlyAddressBook saveAndRead(ReadOnlyAddressBook addressBook) throws Exception {
+        Path filePath = testFolder.resolve("other.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        return storage.readAddressBook().get();
+    }
+
+}
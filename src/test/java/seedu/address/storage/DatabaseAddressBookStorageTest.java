@@ -0,0 +1,201 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class DatabaseAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getDatabaseFilePath_jsonFilePath_extensionReplaced() {
+        assertEquals(Paths.get("data", "addressbook.mv.db"),
+                DatabaseAddressBookStorage.getDatabaseFilePath(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void constructor_wrongExtension_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new DatabaseAddressBookStorage(testFolder.resolve("addressbook.db")));
+    }
+
+    @Test
+    public void readAddressBook_missingDatabase_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.mv.db");
+        try (DatabaseAddressBookStorage storage = new DatabaseAddressBookStorage(filePath)) {
+            assertFalse(storage.readAddressBook().isPresent());
+        }
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.mv.db");
+        AddressBook original = getTypicalAddressBook();
+        try (DatabaseAddressBookStorage storage = new DatabaseAddressBookStorage(filePath)) {
+            storage.saveAddressBook(original);
+            assertEquals(original.getPersonList(), readFresh(filePath).getPersonList());
+
+            original.setPerson(BENSON, new PersonBuilder(BENSON).withDetail("moved desks").withTags("client").build());
+            original.addPerson(HOON);
+            original.removePerson(ALICE);
+            storage.saveAddressBook(original);
+            assertEquals(original.getPersonList(), readFresh(filePath).getPersonList());
+
+            original.sort(Comparator.comparing((Person person) -> person.getName().fullName).reversed());
+            original.addPerson(IDA);
+            storage.saveAddressBook(original);
+            assertEquals(original.getPersonList(), readFresh(filePath).getPersonList());
+
+            storage.saveAddressBook(new AddressBook());
+            assertEquals(new AddressBook(), readFresh(filePath));
+        }
+    }
+
+    @Test
+    public void saveAddressBook_afterClosing_databaseOpenedAgain() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.mv.db");
+        DatabaseAddressBookStorage storage = new DatabaseAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.close();
+        storage.close();
+
+        storage.saveAddressBook(new AddressBook());
+        storage.close();
+        assertEquals(new AddressBook(), readFresh(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_afterReading_onlyChangedRowsWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.mv.db");
+        saveFresh(filePath, getTypicalAddressBook());
+
+        // a storage that read the rows knows the persons saved, so the first save after loading is incremental
+        AddressBook addressBook;
+        try (DatabaseAddressBookStorage storage = new DatabaseAddressBookStorage(filePath)) {
+            addressBook = new AddressBook(storage.readAddressBook().get());
+            // an untouched row edited behind the storage's back is only kept if that row is not rewritten
+            long untouchedRank = readRanks(filePath).get(3);
+            execute(filePath, "UPDATE persons SET detail = 'edited elsewhere' WHERE person_rank = " + untouchedRank);
+            Person benson = addressBook.getPersonList().get(1);
+            addressBook.setPerson(benson, new PersonBuilder(benson).withDetail("moved desks").build());
+            storage.saveAddressBook(addressBook);
+        }
+
+        List<Person> saved = readFresh(filePath).getPersonList();
+        assertEquals(addressBook.getPersonList().get(1), saved.get(1));
+        assertEquals("edited elsewhere", saved.get(3).getDetail().value);
+    }
+
+    @Test
+    public void saveAddressBook_lastPersonMovedToFront_otherRanksKept() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.mv.db");
+        saveFresh(filePath, getTypicalAddressBook());
+        List<Long> ranksBefore = readRanks(filePath);
+
+        // the contact book read is marked saved, so the move is replayed from its changes
+        AddressBook addressBook;
+        try (DatabaseAddressBookStorage storage = new DatabaseAddressBookStorage(filePath)) {
+            addressBook = new AddressBook(storage.readAddressBook().get());
+            storage.markSaved(addressBook.snapshot());
+            int size = addressBook.getPersonList().size();
+            addressBook.reorder(IntStream.range(0, size).map(i -> (i + size - 1) % size).toArray());
+            storage.saveAddressBook(addressBook.snapshot());
+        }
+
+        List<Long> ranksAfter = readRanks(filePath);
+        assertEquals(ranksBefore.subList(0, ranksBefore.size() - 1), ranksAfter.subList(1, ranksAfter.size()));
+        assertEquals(addressBook.getPersonList(), readFresh(filePath).getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_missingDatabase_migratedFromJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Path filePath = DatabaseAddressBookStorage.getDatabaseFilePath(jsonFilePath);
+        AddressBook original = getTypicalAddressBook();
+        new JournaledAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        try (DatabaseAddressBookStorage storage = new DatabaseAddressBookStorage(filePath, jsonFilePath)) {
+            assertEquals(original.getPersonList(), storage.readAddressBook().get().getPersonList());
+        }
+        assertTrue(Files.exists(filePath));
+        assertEquals(original.getPersonList(), readFresh(filePath).getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_newerSchema_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.mv.db");
+        saveFresh(filePath, getTypicalAddressBook());
+        execute(filePath, "UPDATE schema_version SET version = " + (DatabaseAddressBookStorage.SCHEMA_VERSION + 1));
+
+        assertThrows(DataLoadingException.class, () -> readFresh(filePath));
+    }
+
+    private static AddressBook readFresh(Path filePath) throws DataLoadingException, IOException {
+        try (DatabaseAddressBookStorage storage = new DatabaseAddressBookStorage(filePath)) {
+            return new AddressBook(storage.readAddressBook().get());
+        }
+    }
+
+    private static void saveFresh(Path filePath, AddressBook addressBook) throws IOException {
+        try (DatabaseAddressBookStorage storage = new DatabaseAddressBookStorage(filePath)) {
+            storage.saveAddressBook(addressBook);
+        }
+    }
+
+    private static Connection connect(Path filePath) throws SQLException {
+        String fileName = filePath.toAbsolutePath().toString();
+        return DriverManager.getConnection("jdbc:h2:file:"
+                + fileName.substring(0, fileName.length() - DatabaseAddressBookStorage.FILE_EXTENSION.length()));
+    }
+
+    private static void execute(Path filePath, String sql) throws SQLException {
+        try (Connection connection = connect(filePath);
+                Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static List<Long> readRanks(Path filePath) throws SQLException {
+        List<Long> ranks = new ArrayList<>();
+        try (Connection connection = connect(filePath);
+                Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery("SELECT person_rank FROM persons ORDER BY person_rank")) {
+            while (rows.next()) {
+                ranks.add(rows.getLong(1));
+            }
+        }
+        return ranks;
+    }
+
+}
@@ -0,0 +1,211 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_COMPANY_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("missing.json");
+        assertFalse(new JournaledAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("addressbook.json");
+        assertThrows(NullPointerException.class, () -> new JournaledAddressBookStorage(filePath)
+                .readAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        addressBook.addPerson(HOON);
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withCompany(VALID_COMPANY_BOB).build());
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        addressBook.sort(Comparator.comparing(person -> person.getName().getFoldedName()));
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        // the snapshot is untouched, and the journal holds a checkpoint record and one record per change
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(6, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(addressBook, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_checkpointIntervalReached_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 2);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        addressBook.addPerson(HOON);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertNotEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(1, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(addressBook, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_resetData_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.resetData(new AddressBook());
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(new AddressBook(), new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_staleJournal_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        // a checkpoint interrupted after writing the snapshot leaves the journal of the previous snapshot behind
+        FileUtil.writeToFile(filePath, JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)));
+        assertEquals(addressBook, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        Files.write(JournaledAddressBookStorage.getJournalFilePath(filePath),
+                "{\"op\":\"add\",\"index\":".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        assertEquals(addressBook, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void markSaved_bookJustRead_changesAppendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath);
+        AddressBook loaded = new AddressBook(reopened.readAddressBook().get());
+        reopened.markSaved(loaded);
+        loaded.addPerson(IDA);
+        reopened.saveAddressBook(loaded);
+
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(3, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(loaded, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void markSaved_incompleteLastRecord_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        Files.write(JournaledAddressBookStorage.getJournalFilePath(filePath),
+                "{\"op\":\"add\",\"index\":".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath);
+        AddressBook loaded = new AddressBook(reopened.readAddressBook().get());
+        reopened.markSaved(loaded);
+        loaded.addPerson(IDA);
+        reopened.saveAddressBook(loaded);
+
+        // appending after the cut-off record would merge the two, so a checkpoint is written instead
+        assertEquals(1, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(loaded, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidRecord_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Files.write(JournaledAddressBookStorage.getJournalFilePath(filePath),
+                "{\"op\":\"remove\",\"index\":100}\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesSnapshotThere() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path otherFilePath = testFolder.resolve("other.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook, otherFilePath);
+
+        assertFalse(Files.exists(filePath));
+        assertEquals(addressBook, storage.readAddressBook(otherFilePath).get());
+    }
+
+    @Test
+    public void saveAddressBook_journalRecord_isCompact() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook();
+        storage.saveAddressBook(addressBook);
+        Person person = new PersonBuilder(ALICE).build();
+        addressBook.addPerson(person);
+        storage.saveAddressBook(addressBook);
+
+        String record = Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).get(1);
+        assertTrue(record.startsWith("{\"op\":\"add\",\"index\":0,\"person\":{"));
+        assertFalse(record.contains("checksum") || record.contains("order"));
+    }
+
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,6 +10,7 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -86,6 +88,32 @@ public class JsonCompanyBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_compressed_success() throws Exception {
+        Path filePath = JsonAddressBookStorage.getCompressedFilePath(testFolder.resolve("TempAddressBook.json"));
+        assertEquals(testFolder.resolve("TempAddressBook.json.gz"), filePath);
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath, 9).saveAddressBook(original);
+
+        // compressed files are detected on reading, whichever way the storage saves
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath, 1).readAddressBook().get()));
+
+        // plain files can be read by a storage that saves compressed
+        Path plainFilePath = testFolder.resolve("Plain.json");
+        new JsonAddressBookStorage(plainFilePath).saveAddressBook(original);
+        assertEquals(original,
+                new AddressBook(new JsonAddressBookStorage(plainFilePath, 6).readAddressBook().get()));
+        assertTrue(Files.size(filePath) < Files.size(plainFilePath));
+    }
+
+    @Test
+    public void constructor_invalidCompressionLevel_throwsIllegalArgumentException() {
+        Path filePath = testFolder.resolve("TempAddressBook.json.gz");
+        assertThrows(IllegalArgumentException.class, () -> new JsonAddressBookStorage(filePath, -1));
+        assertThrows(IllegalArgumentException.class, () -> new JsonAddressBookStorage(filePath, 10));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
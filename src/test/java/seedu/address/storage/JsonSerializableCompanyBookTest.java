@@ -1,16 +1,28 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableCompanyBookTest {
@@ -44,4 +56,116 @@ public class JsonSerializableCompanyBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_manyPersons_convertedInOrder() throws Exception {
+        List<Person> persons = getManyPersons();
+        List<JsonAdaptedPerson> adapted = new ArrayList<>();
+        persons.forEach(person -> adapted.add(new JsonAdaptedPerson(person)));
+
+        AddressBook addressBook = toModelTypeInParallel(new JsonSerializableAddressBook(adapted));
+        assertEquals(persons, addressBook.getPersonList());
+    }
+
+    @Test
+    public void toModelType_manyPersonsWithInvalidOnes_firstInvalidPersonReported() {
+        List<JsonAdaptedPerson> adapted = new ArrayList<>();
+        getManyPersons().forEach(person -> adapted.add(new JsonAdaptedPerson(person)));
+        adapted.set(2500, new JsonAdaptedPerson("R@chel", "98765432", "rachel@example.com", "Google", "", null));
+        adapted.set(4000, new JsonAdaptedPerson(null, "98765432", "rachel@example.com", "Google", "", null));
+
+        assertThrows(IllegalValueException.class, String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSON,
+                2501), () -> toModelTypeInParallel(new JsonSerializableAddressBook(adapted)));
+    }
+
+    @Test
+    public void readFrom_typicalPersonsFile_success() throws Exception {
+        try (InputStream in = Files.newInputStream(TYPICAL_PERSONS_FILE)) {
+            AddressBook addressBookFromFile = JsonUtil.readJsonStream(JsonSerializableAddressBook::readFrom, in);
+            assertEquals(TypicalPersons.getTypicalAddressBook(), addressBookFromFile);
+        }
+    }
+
+    @Test
+    public void readFrom_invalidPersonFile_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(INVALID_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, () ->
+                    JsonUtil.readJsonStream(JsonSerializableAddressBook::readFrom, in));
+        }
+    }
+
+    @Test
+    public void readFrom_duplicatePersons_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(DUPLICATE_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                    JsonUtil.readJsonStream(JsonSerializableAddressBook::readFrom, in));
+        }
+    }
+
+    @Test
+    public void readFrom_unknownFieldsAndMissingPersons_emptyBook() throws Exception {
+        String json = "{\"version\": {\"major\": [1, 2]}}";
+        InputStream in = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+        assertEquals(new AddressBook(), JsonUtil.readJsonStream(JsonSerializableAddressBook::readFrom, in));
+    }
+
+    @Test
+    public void readFrom_manyPersons_listenerToldOfEachBatch() throws Exception {
+        List<Person> persons = getManyPersons();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonUtil.writeJsonStream(generator -> JsonSerializableAddressBook.writeTo(new AddressBook(persons), generator),
+                out);
+        List<Integer> sizesRead = new ArrayList<>();
+        List<Double> fractionsRead = new ArrayList<>();
+
+        AddressBook addressBook = JsonUtil.readJsonStream(parser -> JsonSerializableAddressBook.readFrom(parser,
+                (personsRead, fractionRead) -> {
+                    sizesRead.add(personsRead.size());
+                    fractionsRead.add(fractionRead);
+                }, out.size()), new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(persons, addressBook.getPersonList());
+        assertEquals(List.of(256, persons.size()), sizesRead);
+        assertTrue(fractionsRead.get(0) > 0 && fractionsRead.get(0) < fractionsRead.get(1));
+    }
+
+    @Test
+    public void readFrom_notAnObject_throwsIoException() {
+        InputStream in = new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IOException.class, () -> JsonUtil.readJsonStream(JsonSerializableAddressBook::readFrom, in));
+    }
+
+    @Test
+    public void writeTo_typicalPersons_sameAsSerializingWholeBook() throws Exception {
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonUtil.writeJsonStream(generator -> JsonSerializableAddressBook.writeTo(addressBook, generator), out);
+
+        String streamed = out.toString(StandardCharsets.UTF_8);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)), streamed);
+        assertEquals(addressBook, JsonUtil.fromJsonString(streamed, JsonSerializableAddressBook.class).toModelType());
+    }
+
+    /**
+     * Converts {@code addressBook} on a pool of several threads, so that it is converted in parallel chunks
+     * however many processors the machine running the test has.
+     */
+    private static AddressBook toModelTypeInParallel(JsonSerializableAddressBook addressBook)
+            throws IllegalValueException {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            return addressBook.toModelType(pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static List<Person> getManyPersons() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 2 * JsonSerializableAddressBook.PARALLEL_THRESHOLD + 1; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withEmail("person" + i + "@example.com")
+                    .withPhone(String.valueOf(90000000 + i)).build());
+        }
+        return persons;
+    }
+
 }
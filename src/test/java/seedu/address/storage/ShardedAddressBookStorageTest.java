@@ -0,0 +1,172 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    private static final int SHARD_COUNT = 4;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getManifestFilePath_jsonFilePath_shardDirectory() {
+        assertEquals(Paths.get("data", "addressbook.shards", "manifest.json"),
+                ShardedAddressBookStorage.getManifestFilePath(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void readAddressBook_missingManifest_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("manifest.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("manifest.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARD_COUNT);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertEquals(original.getPersonList(), readFresh(filePath).getPersonList());
+
+        // persons put in the middle of the list keep their place
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withDetail("moved desks").build());
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original.getPersonList(), readFresh(filePath).getPersonList());
+
+        original.sort(Comparator.comparing((Person person) -> person.getName().fullName).reversed());
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original.getPersonList(), readFresh(filePath).getPersonList());
+
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), readFresh(filePath));
+
+        // only the shard files named in the manifest are kept
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(SHARD_COUNT + 1, files.count());
+        }
+    }
+
+    @Test
+    public void saveAddressBook_onePersonEdited_onlyItsShardRewritten() throws Exception {
+        Path filePath = testFolder.resolve("manifest.json");
+        new ShardedAddressBookStorage(filePath, SHARD_COUNT).saveAddressBook(getTypicalAddressBook());
+        List<String> shardsBefore = readManifest(filePath).getShards();
+
+        // a storage that read the shards knows the persons saved, so the first save after loading is incremental
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARD_COUNT);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        Person benson = addressBook.getPersonList().get(1);
+        addressBook.setPerson(benson, new PersonBuilder(benson).withDetail("moved desks").build());
+        storage.saveAddressBook(addressBook);
+        List<String> shardsAfter = readManifest(filePath).getShards();
+
+        assertOnlyShardRewritten(ShardedAddressBookStorage.getShard(benson, SHARD_COUNT), shardsBefore, shardsAfter);
+        assertEquals(addressBook.getPersonList(), readFresh(filePath).getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_lastPersonMovedToFront_onlyItsShardRewritten() throws Exception {
+        Path filePath = testFolder.resolve("manifest.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARD_COUNT);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook.snapshot());
+        int size = addressBook.getPersonList().size();
+        int[] lastToFront = IntStream.range(0, size).map(i -> (i + size - 1) % size).toArray();
+
+        // the snapshot saved leads on to the next, so the move is replayed from the changes made since
+        List<String> shardsBefore = readManifest(filePath).getShards();
+        Person moved = addressBook.getPersonList().get(size - 1);
+        addressBook.reorder(lastToFront);
+        storage.saveAddressBook(addressBook.snapshot());
+        assertOnlyShardRewritten(ShardedAddressBookStorage.getShard(moved, SHARD_COUNT),
+                shardsBefore, readManifest(filePath).getShards());
+        assertEquals(addressBook.getPersonList(), readFresh(filePath).getPersonList());
+
+        // a copy has changes of its own, so the move is found by comparing the persons instead
+        AddressBook copy = new AddressBook(addressBook);
+        shardsBefore = readManifest(filePath).getShards();
+        moved = copy.getPersonList().get(size - 1);
+        copy.reorder(lastToFront);
+        storage.saveAddressBook(copy);
+        assertOnlyShardRewritten(ShardedAddressBookStorage.getShard(moved, SHARD_COUNT),
+                shardsBefore, readManifest(filePath).getShards());
+        assertEquals(copy.getPersonList(), readFresh(filePath).getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_differentShardCount_success() throws Exception {
+        Path filePath = testFolder.resolve("manifest.json");
+        AddressBook original = getTypicalAddressBook();
+        new ShardedAddressBookStorage(filePath, SHARD_COUNT).saveAddressBook(original);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARD_COUNT + 1);
+        assertEquals(original.getPersonList(), storage.readAddressBook().get().getPersonList());
+        storage.saveAddressBook(original);
+        assertEquals(SHARD_COUNT + 1, readManifest(filePath).getShards().size());
+        assertEquals(original.getPersonList(), readFresh(filePath).getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_missingShard_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("manifest.json");
+        new ShardedAddressBookStorage(filePath, SHARD_COUNT).saveAddressBook(getTypicalAddressBook());
+        Files.delete(filePath.resolveSibling(readManifest(filePath).getShards().get(0)));
+
+        assertThrows(DataLoadingException.class, () -> readFresh(filePath));
+    }
+
+    @Test
+    public void constructor_invalidShardCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new ShardedAddressBookStorage(testFolder.resolve("manifest.json"), 0));
+    }
+
+    private static AddressBook readFresh(Path filePath) throws DataLoadingException {
+        return new AddressBook(new ShardedAddressBookStorage(filePath, SHARD_COUNT).readAddressBook().get());
+    }
+
+    private static void assertOnlyShardRewritten(int rewrittenShard, List<String> shardsBefore,
+            List<String> shardsAfter) {
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            if (shard == rewrittenShard) {
+                assertNotEquals(shardsBefore.get(shard), shardsAfter.get(shard));
+            } else {
+                assertEquals(shardsBefore.get(shard), shardsAfter.get(shard));
+            }
+        }
+    }
+
+    private static JsonSerializableShardManifest readManifest(Path filePath) throws DataLoadingException {
+        return JsonUtil.readJsonFile(filePath, JsonSerializableShardManifest.class).get();
+    }
+
+}
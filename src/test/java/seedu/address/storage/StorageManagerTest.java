@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -60,6 +62,47 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void convertAddressBook_toBinary_binaryFileWritten() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Path binaryFilePath = testFolder.resolve("addressbook.bin");
+
+        assertEquals(binaryFilePath, storageManager.convertAddressBook(getTypicalAddressBook(),
+                DataFileFormat.BINARY, jsonFilePath));
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(binaryFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void convertAddressBook_toCompressed_compressedFileWritten() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Path compressedFilePath = testFolder.resolve("addressbook.json.gz");
+        storageManager = new StorageManager(new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 9);
+
+        assertEquals(compressedFilePath, storageManager.convertAddressBook(getTypicalAddressBook(),
+                DataFileFormat.COMPRESSED, jsonFilePath));
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(compressedFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void convertAddressBook_toJson_jsonFileWritten() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+
+        assertEquals(jsonFilePath, storageManager.convertAddressBook(getTypicalAddressBook(),
+                DataFileFormat.JSON, jsonFilePath));
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JournaledAddressBookStorage(jsonFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void constructor_invalidCompressionLevel_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new StorageManager(
+                new JsonAddressBookStorage(getTempFilePath("ab")), new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                10));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());